@@ -1,11 +1,61 @@
 CREATE TABLE `users` (
-	`id`	bigint	NOT NULL	COMMENT 'auto-increment',
+	`id`	bigint	NOT NULL	COMMENT 'users_seq',
 	`ids`	varchar(50)	NOT NULL,
-	`password`	varchar(50)	NOT NULL,
+	`password`	varchar(100)	NOT NULL,
 	`email`	varchar(100)	NOT NULL,
 	`name`	varchar(50)	NOT NULL,
-	`status`	enum('ACTIVE', 'INACTIVE', 'DORMANT')	NULL
+	`status`	enum('ACTIVE', 'INACTIVE', 'DORMANT')	NULL,
+	`version`	bigint	NOT NULL	DEFAULT 0,
+	`last_login_at`	datetime(6)	NULL
 );
 ALTER TABLE `users` ADD CONSTRAINT `PK_USERS` PRIMARY KEY (
 	`id`
 );
+ALTER TABLE `users` ADD CONSTRAINT `UK_USERS_IDS` UNIQUE (
+	`ids`
+);
+CREATE INDEX `IX_USERS_NAME` ON `users` (`name`, `id`);
+CREATE INDEX `IX_USERS_EMAIL` ON `users` (`email`, `id`);
+CREATE INDEX `IX_USERS_STATUS` ON `users` (`status`, `id`);
+
+-- MySQL 은 시퀀스가 없어서 Hibernate 가 users_seq 테이블의 next_val 로 id 를 50개씩 받아감 (받은 값 - 49 부터 사용)
+-- 기존 auto-increment 테이블에서 옮길 때는 `id` 의 AUTO_INCREMENT 를 빼고, 이미 발급된 id 와 겹치지 않게 max(id) + 50 부터 시작
+CREATE TABLE `users_seq` (
+	`next_val`	bigint	NULL
+);
+INSERT INTO `users_seq` (`next_val`) SELECT COALESCE(MAX(`id`), 0) + 50 FROM `users`;
+
+CREATE TABLE `sweep_checkpoint` (
+	`name`	varchar(50)	NOT NULL,
+	`last_id`	bigint	NOT NULL,
+	`cutoff`	datetime(6)	NULL,
+	`started_at`	datetime(6)	NULL,
+	`updated_at`	datetime(6)	NULL
+);
+ALTER TABLE `sweep_checkpoint` ADD CONSTRAINT `PK_SWEEP_CHECKPOINT` PRIMARY KEY (
+	`name`
+);
+
+-- account_changes 의 id 는 insert 할 때 발급 (시퀀스 조회 없이 배치 insert, 여러 인스턴스에서도 insert 순서)
+-- account_changes_seq 테이블로 발급하던 DB 는 `id` 에 AUTO_INCREMENT 를 붙이고 account_changes_seq 를 삭제
+CREATE TABLE `account_changes` (
+	`id`	bigint	NOT NULL	AUTO_INCREMENT,
+	`account_id`	bigint	NOT NULL,
+	`ids`	varchar(50)	NULL,
+	`previous_ids`	varchar(50)	NULL,
+	`type`	enum('CREATED', 'UPDATED', 'STATUS_CHANGED', 'DELETED')	NOT NULL,
+	`changed_at`	datetime(6)	NOT NULL,
+	CONSTRAINT `PK_ACCOUNT_CHANGES` PRIMARY KEY (`id`)
+);
+CREATE INDEX `IX_ACCOUNT_CHANGES_ACCOUNT_ID` ON `account_changes` (`account_id`);
+
+CREATE TABLE `audit_log` (
+	`id`	bigint	NOT NULL	AUTO_INCREMENT,
+	`action`	enum('LOGIN', 'REGISTER', 'UPDATE', 'STATUS_CHANGE', 'DELETE')	NOT NULL,
+	`account_id`	bigint	NULL,
+	`ids`	varchar(255)	NULL,
+	`success`	bit(1)	NOT NULL,
+	`occurred_at`	datetime(6)	NOT NULL,
+	CONSTRAINT `PK_AUDIT_LOG` PRIMARY KEY (`id`)
+);
+CREATE INDEX `IX_AUDIT_LOG_ACCOUNT_ID` ON `audit_log` (`account_id`);
@@ -0,0 +1,190 @@
+package main.accountapi.benchmark;
+
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+// 플랫폼 스레드 모드와 가상 스레드 모드의 처리량, p99 비교 부하 테스트
+// 모드마다 애플리케이션을 띄우고 같은 요청 조합(로그인 20%, 아이디 조회 60%, 페이지 조회 20%)을 동시에 보낸다
+// 사용법: AccountLoadTest <결과 파일> [concurrency=200] [duration=20] [warmup=5] [users=1000]
+public class AccountLoadTest {
+
+    public static void main(String[] args) throws Exception {
+        Path resultFile = Path.of(args[0]);
+        Map<String, String> options = new HashMap<>();
+        for (String arg : Arrays.copyOfRange(args, 1, args.length)) {
+            String[] keyValue = arg.split("=", 2);
+            options.put(keyValue[0], keyValue[1]);
+        }
+        int concurrency = Integer.parseInt(options.getOrDefault("concurrency", "200"));
+        int durationSeconds = Integer.parseInt(options.getOrDefault("duration", "20"));
+        int warmupSeconds = Integer.parseInt(options.getOrDefault("warmup", "5"));
+        int users = Integer.parseInt(options.getOrDefault("users", "1000"));
+
+        List<Result> results = new ArrayList<>();
+        for (boolean virtualThreads : new boolean[]{false, true}) {
+            ConfigurableApplicationContext context = BenchmarkApplication.start("spring.threads.virtual.enabled=" + virtualThreads);
+            try {
+                BenchmarkApplication.seed(context, users);
+                String baseUrl = "http://localhost:" + context.getEnvironment().getProperty("local.server.port");
+
+                run(baseUrl, concurrency, warmupSeconds, users);
+                Result result = run(baseUrl, concurrency, durationSeconds, users);
+                results.add(result.withMode(virtualThreads ? "virtual" : "platform"));
+            } finally {
+                context.close();
+            }
+        }
+
+        System.out.printf("%-10s %12s %10s %10s %10s %10s%n", "mode", "requests/s", "p50 ms", "p99 ms", "errors", "503");
+        for (Result result : results) {
+            System.out.printf(Locale.ROOT, "%-10s %12.1f %10.2f %10.2f %10d %10d%n",
+                    result.mode, result.throughput, result.p50Millis, result.p99Millis, result.errors, result.unavailable);
+        }
+        writeJson(resultFile, concurrency, durationSeconds, users, results);
+    }
+
+    // concurrency 개의 클라이언트가 durationSeconds 동안 응답을 받자마자 다음 요청을 보냄
+    private static Result run(String baseUrl, int concurrency, int durationSeconds, int users) throws InterruptedException {
+        HttpClient client = HttpClient.newBuilder()
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+        AtomicBoolean running = new AtomicBoolean(true);
+        List<Client> clients = new ArrayList<>();
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < concurrency; i++) {
+                Client loadClient = new Client(client, baseUrl, users, running);
+                clients.add(loadClient);
+                executor.submit(loadClient);
+            }
+            TimeUnit.SECONDS.sleep(durationSeconds);
+            running.set(false);
+        }
+
+        long[] latencies = clients.stream()
+                .flatMapToLong(loadClient -> Arrays.stream(loadClient.latencies, 0, loadClient.count))
+                .sorted()
+                .toArray();
+        long errors = clients.stream().mapToLong(loadClient -> loadClient.errors).sum();
+        long unavailable = clients.stream().mapToLong(loadClient -> loadClient.unavailable).sum();
+        return new Result(null, latencies.length / (double) durationSeconds,
+                percentileMillis(latencies, 0.50), percentileMillis(latencies, 0.99), errors, unavailable);
+    }
+
+    private static double percentileMillis(long[] sortedNanos, double percentile) {
+        if (sortedNanos.length == 0) {
+            return 0;
+        }
+        int index = (int) Math.ceil(percentile * sortedNanos.length) - 1;
+        return sortedNanos[Math.max(index, 0)] / 1_000_000.0;
+    }
+
+    private static void writeJson(Path resultFile, int concurrency, int durationSeconds, int users, List<Result> results) throws IOException {
+        StringBuilder json = new StringBuilder();
+        json.append(String.format(Locale.ROOT, "{\"concurrency\":%d,\"durationSeconds\":%d,\"users\":%d,\"results\":[",
+                concurrency, durationSeconds, users));
+        for (int i = 0; i < results.size(); i++) {
+            Result result = results.get(i);
+            json.append(i == 0 ? "" : ",").append(String.format(Locale.ROOT,
+                    "{\"mode\":\"%s\",\"throughput\":%.1f,\"p50Millis\":%.3f,\"p99Millis\":%.3f,\"errors\":%d,\"unavailable\":%d}",
+                    result.mode, result.throughput, result.p50Millis, result.p99Millis, result.errors, result.unavailable));
+        }
+        json.append("]}\n");
+        Files.createDirectories(resultFile.toAbsolutePath().getParent());
+        Files.writeString(resultFile, json);
+        System.out.println("Load test result is saved to " + resultFile.toAbsolutePath());
+    }
+
+    private record Result(String mode, double throughput, double p50Millis, double p99Millis, long errors, long unavailable) {
+
+        Result withMode(String mode) {
+            return new Result(mode, throughput, p50Millis, p99Millis, errors, unavailable);
+        }
+    }
+
+    private static final class Client implements Runnable {
+
+        private final HttpClient client;
+        private final String baseUrl;
+        private final int users;
+        private final AtomicBoolean running;
+
+        private long[] latencies = new long[1024];
+        private int count;
+        private long errors;
+        private long unavailable;
+
+        Client(HttpClient client, String baseUrl, int users, AtomicBoolean running) {
+            this.client = client;
+            this.baseUrl = baseUrl;
+            this.users = users;
+            this.running = running;
+        }
+
+        @Override
+        public void run() {
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+            while (running.get()) {
+                HttpRequest request = nextRequest(random);
+                long start = System.nanoTime();
+                try {
+                    int status = client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+                    if (status == 503) {
+                        unavailable++;
+                    } else if (status >= 400) {
+                        errors++;
+                    }
+                } catch (IOException e) {
+                    errors++;
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                record(System.nanoTime() - start);
+            }
+        }
+
+        private HttpRequest nextRequest(ThreadLocalRandom random) {
+            String ids = "user" + random.nextInt(users);
+            int kind = random.nextInt(10);
+            if (kind < 2) {
+                return HttpRequest.newBuilder(URI.create(baseUrl + "/accounts/login"))
+                        .header("Content-Type", "application/json")
+                        .POST(HttpRequest.BodyPublishers.ofString(
+                                "{\"ids\":\"" + ids + "\",\"password\":\"" + BenchmarkApplication.PASSWORD + "\"}"))
+                        .build();
+            }
+            if (kind < 8) {
+                return HttpRequest.newBuilder(URI.create(baseUrl + "/accounts/" + ids)).GET().build();
+            }
+            return HttpRequest.newBuilder(URI.create(baseUrl + "/accounts/all?size=50&after=" + random.nextInt(users))).GET().build();
+        }
+
+        private void record(long latencyNanos) {
+            if (count == latencies.length) {
+                latencies = Arrays.copyOf(latencies, count * 2);
+            }
+            latencies[count++] = latencyNanos;
+        }
+    }
+}
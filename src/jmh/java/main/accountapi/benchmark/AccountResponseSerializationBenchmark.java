@@ -0,0 +1,53 @@
+package main.accountapi.benchmark;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import main.accountapi.model.UserStatus;
+import main.accountapi.model.dto.AccountResponse;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// GET /accounts/all 응답(List<AccountResponse>) 직렬화 벤치마크
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class AccountResponseSerializationBenchmark {
+
+    @Param({"1", "100", "10000"})
+    public int listSize;
+
+    private ObjectMapper objectMapper;
+    private List<AccountResponse> accounts;
+
+    @Setup
+    public void setUp() {
+        // 스프링 부트와 같은 기본 설정
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        accounts = new ArrayList<>(listSize);
+        for (int i = 0; i < listSize; i++) {
+            accounts.add(new AccountResponse(i, "user" + i, "이름" + i, "user" + i + "@example.com", UserStatus.ACTIVE));
+        }
+    }
+
+    @Benchmark
+    public byte[] serializeAccountList() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(accounts);
+    }
+}
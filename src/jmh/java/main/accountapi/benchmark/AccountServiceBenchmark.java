@@ -0,0 +1,91 @@
+package main.accountapi.benchmark;
+
+import main.accountapi.model.dto.AccountResponse;
+import main.accountapi.model.dto.AuthenticationResponse;
+import main.accountapi.model.dto.LoginRequest;
+import main.accountapi.model.dto.RegisterRequest;
+import main.accountapi.service.AccountService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+// AccountServiceImpl 주요 경로 벤치마크 (캐시는 끄고 DB 경로를 측정)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class AccountServiceBenchmark {
+
+    @Param({"100", "10000"})
+    public int tableSize;
+
+    private ConfigurableApplicationContext context;
+    private AccountService accountService;
+    private final AtomicLong registerSequence = new AtomicLong();
+
+    private final LoginRequest validLogin = new LoginRequest("user0", BenchmarkApplication.PASSWORD);
+    private final LoginRequest wrongPasswordLogin = new LoginRequest("user0", "wrong-password");
+    private final LoginRequest unknownUserLogin = new LoginRequest("nobody", BenchmarkApplication.PASSWORD);
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkApplication.start("spring.cache.type=none");
+        accountService = context.getBean(AccountService.class);
+        BenchmarkApplication.seed(context, tableSize);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public AccountResponse register() {
+        long sequence = registerSequence.incrementAndGet();
+        return accountService.register(new RegisterRequest("bench" + sequence, BenchmarkApplication.PASSWORD, "벤치", "bench@example.com"));
+    }
+
+    @Benchmark
+    public Optional<AccountResponse> loginSuccess() {
+        return accountService.login(validLogin);
+    }
+
+    // 실패한 로그인 두 경로는 같은 비용이어야 함 (없는 아이디도 가짜 해시와 비교)
+    @Benchmark
+    public Optional<AccountResponse> loginWrongPassword() {
+        return accountService.login(wrongPasswordLogin);
+    }
+
+    @Benchmark
+    public Optional<AccountResponse> loginUnknownUser() {
+        return accountService.login(unknownUserLogin);
+    }
+
+    @Benchmark
+    public AuthenticationResponse authenticateLogin() {
+        return accountService.authenticateLogin("user0");
+    }
+
+    @Benchmark
+    public List<AccountResponse> getAllAccounts() {
+        return accountService.getAllAccounts();
+    }
+}
@@ -0,0 +1,58 @@
+package main.accountapi.benchmark;
+
+import main.accountapi.AccountApiApplication;
+import main.accountapi.model.UserStatus;
+import main.accountapi.model.entity.Account;
+import main.accountapi.repository.AccountRepository;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// 벤치마크용 애플리케이션 (임의 포트, 내장 H2 로 실행)
+final class BenchmarkApplication {
+
+    static final String PASSWORD = "password123";
+
+    private static final int SEED_BATCH_SIZE = 1000;
+
+    private BenchmarkApplication() {
+    }
+
+    static ConfigurableApplicationContext start(String... properties) {
+        return new SpringApplicationBuilder(AccountApiApplication.class)
+                .properties(
+                        "server.port=0",
+                        "logging.level.root=warn",
+                        // 커밋마다 결과를 비교할 수 있게 BCrypt 강도 고정 (측정 안 함)
+                        "account.password.bcrypt.strength=10",
+                        // 한 주소에서 같은 계정으로 계속 로그인하므로 시도 제한은 끔
+                        "account.login.throttle.enabled=false")
+                .properties(properties)
+                .run();
+    }
+
+    // user0 ~ user{count-1} 계정을 미리 넣어둠 (비밀번호는 모두 PASSWORD)
+    static void seed(ConfigurableApplicationContext context, int count) {
+        AccountRepository accountRepository = context.getBean(AccountRepository.class);
+        String encodedPassword = context.getBean(PasswordEncoder.class).encode(PASSWORD);
+
+        List<Account> accounts = new ArrayList<>(SEED_BATCH_SIZE);
+        for (int i = 0; i < count; i++) {
+            Account account = new Account();
+            account.setIds("user" + i);
+            account.setPassword(encodedPassword);
+            account.setName("이름" + i);
+            account.setEmail("user" + i + "@example.com");
+            account.setStatus(UserStatus.ACTIVE);
+            accounts.add(account);
+            if (accounts.size() == SEED_BATCH_SIZE) {
+                accountRepository.saveAll(accounts);
+                accounts.clear();
+            }
+        }
+        accountRepository.saveAll(accounts);
+    }
+}
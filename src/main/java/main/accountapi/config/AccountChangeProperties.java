@@ -0,0 +1,31 @@
+package main.accountapi.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+// 계정 변경 피드 설정 (account.changes.*)
+@ConfigurationProperties(prefix = "account.changes")
+public record AccountChangeProperties(@DefaultValue("100") int defaultSize,
+                                      @DefaultValue("1000") int maxSize,
+                                      @DefaultValue("2s") Duration settleDelay, // 이보다 최근 변경은 아직 커밋 중일 수 있어서 내보내지 않음
+                                      @DefaultValue("1s") Duration transactionTimeout, // 변경 기록을 쓰는 트랜잭션의 시간 제한 (초 단위, settleDelay 보다 짧게)
+                                      @DefaultValue("30m") Duration streamTimeout, // SSE 연결 유지 시간 (끊기면 Last-Event-ID 로 다시 연결)
+                                      @DefaultValue("10000") int subscriberBuffer, // SSE 구독자마다 보내지 못하고 쌓아둘 변경 수 (넘으면 연결을 끊음)
+                                      @DefaultValue("1h") Duration compactAfter, // 이보다 오래된 변경은 계정마다 최신 것만 남김
+                                      @DefaultValue("7d") Duration retention, // 이보다 오래된 변경은 삭제
+                                      @DefaultValue("1000") int compactionChunkSize) {
+
+    // 변경 기록은 insert 할 때의 시각(changedAt)으로 settleDelay 를 재므로, 그 뒤 settleDelay 안에 커밋되거나 롤백되어야 건너뛰지 않음
+    public AccountChangeProperties {
+        if (transactionTimeout.toSeconds() < 1 || transactionTimeout.compareTo(settleDelay) >= 0) {
+            throw new IllegalArgumentException("account.changes.transaction-timeout 은 1초 이상, settle-delay 보다 짧아야 합니다.");
+        }
+    }
+
+    // TransactionTemplate 의 timeout (초)
+    public int transactionTimeoutSeconds() {
+        return (int) transactionTimeout.toSeconds();
+    }
+}
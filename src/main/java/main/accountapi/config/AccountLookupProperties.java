@@ -0,0 +1,9 @@
+package main.accountapi.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+// 여러 아이디 한번에 조회 설정 (account.lookup.*)
+@ConfigurationProperties(prefix = "account.lookup")
+public record AccountLookupProperties(@DefaultValue("500") int maxIds) { // 한 요청에 조회할 수 있는 최대 아이디 수
+}
@@ -0,0 +1,10 @@
+package main.accountapi.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+// 계정 목록 페이지 설정 (account.page.*)
+@ConfigurationProperties(prefix = "account.page")
+public record AccountPageProperties(@DefaultValue("100") int defaultSize, // size 미지정시 페이지 크기
+                                    @DefaultValue("1000") int maxSize) { // 한 페이지 최대 크기
+}
@@ -0,0 +1,22 @@
+package main.accountapi.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+// 감사 기록 설정 (account.audit.*)
+@ConfigurationProperties(prefix = "account.audit")
+public record AuditProperties(@DefaultValue("8192") int capacity, // 버퍼에 담아두는 최대 기록 수 (2의 거듭제곱으로 올림)
+                              @DefaultValue("500") int batchSize, // 한번에 insert 하는 기록 수, 버퍼에 이만큼 모이면 주기를 기다리지 않고 저장
+                              @DefaultValue("1s") Duration flushInterval, // 모아둔 기록을 저장하는 주기
+                              @DefaultValue("DROP") Backpressure backpressure, // 버퍼가 찼을 때 처리 방법
+                              @DefaultValue("100ms") Duration blockTimeout, // BLOCK 일 때 자리가 나기를 기다리는 최대 시간 (넘으면 버림)
+                              @DefaultValue("10") int sampleRate) { // SAMPLE 일 때 버퍼가 절반 넘게 차면 sampleRate 개 중 하나만 기록
+
+    public enum Backpressure {
+        DROP, // 버퍼가 차면 바로 버림 (요청은 기다리지 않음)
+        BLOCK, // 버퍼에 자리가 날 때까지 요청 스레드가 blockTimeout 동안 기다림
+        SAMPLE // 버퍼가 절반 넘게 차면 일부만 기록하고, 다 차면 버림
+    }
+}
@@ -0,0 +1,14 @@
+package main.accountapi.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+// BCrypt 강도 설정 (account.password.bcrypt.*)
+@ConfigurationProperties(prefix = "account.password.bcrypt")
+public record BCryptProperties(@DefaultValue("0") int strength, // 0 보다 크면 측정 없이 이 강도 사용
+                               @DefaultValue("50ms") Duration targetHashTime, // 해시 한번에 목표로 하는 시간
+                               @DefaultValue("10") int minStrength, // 측정 결과와 상관없이 최소 강도
+                               @DefaultValue("16") int maxStrength) {
+}
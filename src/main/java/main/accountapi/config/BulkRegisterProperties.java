@@ -0,0 +1,10 @@
+package main.accountapi.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+// 일괄 회원가입 설정 (account.bulk.*)
+@ConfigurationProperties(prefix = "account.bulk")
+public record BulkRegisterProperties(@DefaultValue("100") int batchSize, // 한 트랜잭션, 한 JDBC 배치로 넣을 계정 수
+                                     @DefaultValue("5000") int maxSize) { // 한 요청에 넣을 수 있는 최대 계정 수
+}
@@ -0,0 +1,36 @@
+package main.accountapi.config;
+
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import javax.cache.spi.CachingProvider;
+import java.net.URI;
+import java.util.UUID;
+
+// 캐시 설정 (크기, TTL 은 spring.cache.caffeine.spec 으로 지정)
+@Configuration
+@EnableCaching
+public class CacheConfig {
+
+    // 아이디(ids) -> 로그인 인증 정보 캐시
+    public static final String ACCOUNTS_BY_IDS = "accountsByIds";
+
+    // Hibernate 2차 캐시용 JCache (영역 설정은 application.conf 의 caffeine.jcache)
+    // 기본 CacheManager 는 JVM 에 하나라 컨텍스트가 여러 개면 (테스트) 다른 DB 의 엔티티와 영역을 나눠 쓰게 되므로 컨텍스트마다 따로 만듦
+    @Bean(destroyMethod = "close")
+    public CacheManager hibernateCacheManager() {
+        CachingProvider provider = Caching.getCachingProvider(CaffeineCachingProvider.class.getName());
+        return provider.getCacheManager(URI.create("hibernate:" + UUID.randomUUID()), provider.getDefaultClassLoader());
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer hibernateCacheCustomizer(CacheManager hibernateCacheManager) {
+        return properties -> properties.put(ConfigSettings.CACHE_MANAGER, hibernateCacheManager);
+    }
+}
@@ -0,0 +1,59 @@
+package main.accountapi.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+
+// 읽기 전용 트랜잭션 (@Transactional(readOnly = true), 조회용 리포지토리 메소드) 은 복제본으로 보냄
+// account.datasource.replica.jdbc-url 이 없으면 등록하지 않고 spring.datasource 하나만 사용
+@Configuration
+@ConditionalOnProperty(prefix = "account.datasource.replica", name = "jdbc-url")
+public class DataSourceRoutingConfig {
+
+    // 원본 커넥션풀 (spring.datasource.*, 풀 설정은 spring.datasource.hikari.*)
+    @Bean
+    @ConfigurationProperties(prefix = "spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        dataSource.setPoolName("primary");
+        return dataSource;
+    }
+
+    // 복제본 커넥션풀 (account.datasource.replica.*, 원본과 따로 풀 크기 지정)
+    @Bean
+    @ConfigurationProperties(prefix = "account.datasource.replica")
+    public HikariDataSource replicaDataSource() {
+        HikariDataSource dataSource = DataSourceBuilder.create().type(HikariDataSource.class).build();
+        dataSource.setPoolName("replica");
+        dataSource.setReadOnly(true);
+        return dataSource;
+    }
+
+    // 읽기 전용 트랜잭션의 커넥션 (커밋 리스너로도 등록되어 같은 요청의 쓰기 후 읽기는 원본으로)
+    @Bean
+    public ReplicaRoutingDataSource replicaRoutingDataSource(@Qualifier("primaryDataSource") DataSource primaryDataSource,
+                                                             @Qualifier("replicaDataSource") DataSource replicaDataSource,
+                                                             DataSourceRoutingProperties properties) {
+        return new ReplicaRoutingDataSource(primaryDataSource, replicaDataSource, properties.readYourWrites());
+    }
+
+    // JPA, JdbcTemplate 이 사용하는 데이터소스
+    // 실제 커넥션은 첫 쿼리 때 가져오므로 그때는 트랜잭션의 readOnly 가 정해져 있음
+    @Bean
+    @Primary
+    public DataSource dataSource(@Qualifier("primaryDataSource") DataSource primaryDataSource,
+                                 ReplicaRoutingDataSource replicaRoutingDataSource) {
+        LazyConnectionDataSourceProxy dataSource = new LazyConnectionDataSourceProxy(primaryDataSource);
+        dataSource.setReadOnlyDataSource(replicaRoutingDataSource);
+        return dataSource;
+    }
+}
@@ -0,0 +1,9 @@
+package main.accountapi.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+// 읽기 복제본 라우팅 설정 (account.datasource.*), 복제본 접속 정보와 풀 크기는 account.datasource.replica.*
+@ConfigurationProperties(prefix = "account.datasource")
+public record DataSourceRoutingProperties(@DefaultValue("true") boolean readYourWrites) { // 쓰기를 커밋한 요청은 남은 읽기도 원본에서
+}
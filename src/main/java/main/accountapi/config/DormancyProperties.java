@@ -0,0 +1,12 @@
+package main.accountapi.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+// 휴면 전환 작업 설정 (account.dormancy.*), 실행 주기는 account.dormancy.cron ("-" 이면 실행 안 함)
+@ConfigurationProperties(prefix = "account.dormancy")
+public record DormancyProperties(@DefaultValue("365d") Duration idleThreshold, // 마지막 로그인 후 이 기간이 지나면 휴면
+                                 @DefaultValue("1000") int chunkSize) { // 한 트랜잭션에서 훑는 id 개수
+}
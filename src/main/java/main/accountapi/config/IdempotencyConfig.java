@@ -0,0 +1,19 @@
+package main.accountapi.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import main.accountapi.model.dto.AccountResponse;
+import main.accountapi.service.IdempotencyStore;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+// Idempotency-Key 를 받는 엔드포인트별 결과 보관소 (account.idempotency.*)
+@Configuration
+public class IdempotencyConfig {
+
+    // 회원가입 (POST /accounts/register)
+    @Bean
+    public IdempotencyStore<AccountResponse> registerIdempotencyStore(IdempotencyProperties properties,
+                                                                       MeterRegistry meterRegistry) {
+        return new IdempotencyStore<>("register", properties, meterRegistry);
+    }
+}
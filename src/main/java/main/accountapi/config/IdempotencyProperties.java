@@ -0,0 +1,12 @@
+package main.accountapi.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+// Idempotency-Key 로 처리한 요청의 결과 보관 설정 (account.idempotency.*)
+@ConfigurationProperties(prefix = "account.idempotency")
+public record IdempotencyProperties(@DefaultValue("24h") Duration ttl, // 처음 요청 후 이 시간동안 같은 키는 저장된 결과를 반환
+                                    @DefaultValue("100000") long maxKeys) { // 기억하는 최대 키 수 (넘으면 오래 안 쓴 키부터 제거)
+}
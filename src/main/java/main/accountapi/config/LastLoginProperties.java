@@ -0,0 +1,13 @@
+package main.accountapi.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+// 마지막 로그인 시각 기록 설정 (account.last-login.*)
+@ConfigurationProperties(prefix = "account.last-login")
+public record LastLoginProperties(@DefaultValue("10s") Duration flushInterval, // 모아둔 시각을 DB 에 반영하는 주기
+                                  @DefaultValue("10000") int maxBuffer, // 모아둔 계정 수가 이만큼 되면 주기를 기다리지 않고 반영
+                                  @DefaultValue("100000") int capacity) { // 반영이 계속 실패해도 이보다 많은 계정은 모으지 않음 (새 계정의 시각은 버림)
+}
@@ -0,0 +1,18 @@
+package main.accountapi.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+// 로그인 시도 제한 설정 (account.login.throttle.*)
+// 아이디별, 접속 주소별로 period 동안 capacity 번까지 (한번에 몰아서 capacity 번, 이후 period/capacity 마다 1번씩 회복)
+@ConfigurationProperties(prefix = "account.login.throttle")
+public record LoginThrottleProperties(@DefaultValue("true") boolean enabled,
+                                      @DefaultValue("10") int idsCapacity,
+                                      @DefaultValue("1m") Duration idsPeriod,
+                                      @DefaultValue("100") int addressCapacity,
+                                      @DefaultValue("1m") Duration addressPeriod,
+                                      @DefaultValue("100000") long maxKeys, // 키 종류별로 기억하는 최대 개수
+                                      @DefaultValue("10m") Duration idleTimeout) { // 이 시간동안 시도가 없으면 제거
+}
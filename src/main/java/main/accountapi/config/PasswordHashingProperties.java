@@ -0,0 +1,14 @@
+package main.accountapi.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+// 비밀번호 해싱 전용 스레드풀 설정 (account.password.hashing.*)
+@ConfigurationProperties(prefix = "account.password.hashing")
+public record PasswordHashingProperties(@DefaultValue("0") int threads, // 0 이면 CPU 코어 수
+                                        @DefaultValue("64") int queueCapacity) { // 대기열이 차면 바로 503
+
+    public int resolvedThreads() {
+        return threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+    }
+}
@@ -0,0 +1,46 @@
+package main.accountapi.config;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.TransactionExecution;
+import org.springframework.transaction.TransactionExecutionListener;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import javax.sql.DataSource;
+import java.util.Map;
+
+// 읽기 전용 트랜잭션이 사용할 데이터소스 (보통은 복제본, 같은 요청에서 쓰기를 커밋했으면 원본)
+// 쓰기 트랜잭션이 커밋되면 요청 속성에 표시해두고, 요청이 끝나면 표시도 같이 사라짐 (요청 밖의 주기 작업은 항상 복제본)
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource implements TransactionExecutionListener {
+
+    private static final String PRIMARY = "primary";
+    private static final String REPLICA = "replica";
+    private static final String WRITTEN_ATTRIBUTE = ReplicaRoutingDataSource.class.getName() + ".WRITTEN";
+
+    private final boolean readYourWrites;
+
+    public ReplicaRoutingDataSource(DataSource primary, DataSource replica, boolean readYourWrites) {
+        this.readYourWrites = readYourWrites;
+        setTargetDataSources(Map.of(PRIMARY, primary, REPLICA, replica));
+        setDefaultTargetDataSource(replica);
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        boolean written = attributes != null && attributes.getAttribute(WRITTEN_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST) != null;
+        return written ? PRIMARY : REPLICA;
+    }
+
+    // 쓰기 트랜잭션이 커밋된 뒤 (복제본에는 아직 없을 수 있음)
+    @Override
+    public void afterCommit(TransactionExecution transaction, Throwable commitFailure) {
+        if (!readYourWrites || commitFailure != null || transaction.isReadOnly()) {
+            return;
+        }
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes != null) {
+            attributes.setAttribute(WRITTEN_ATTRIBUTE, Boolean.TRUE, RequestAttributes.SCOPE_REQUEST);
+        }
+    }
+}
@@ -0,0 +1,10 @@
+package main.accountapi.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+// 주기 작업 (마지막 로그인 시각 반영 등) 설정
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
@@ -1,14 +1,22 @@
 package main.accountapi.config;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import main.accountapi.security.BCryptStrengthCalibrator;
+import main.accountapi.security.BoundedPasswordEncoder;
+import main.accountapi.security.LoginRateLimiter;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
+import org.springframework.security.config.Customizer;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configurers.HeadersConfigurer;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 
+import java.util.Map;
+
 @Configuration
 public class SecurityConfig{ // 비밀번호 암호화를 위해 사용 비밀번호는 처음부터 암호화를 해야함
 
@@ -21,17 +29,42 @@ public class SecurityConfig{ // 비밀번호 암호화를 위해 사용 비밀
 
                 .authorizeHttpRequests(authz -> authz
                         .requestMatchers("/h2-console/**").permitAll()  // H2 콘솔 접근 허용
+                        .requestMatchers("/accounts/export", "/accounts/import").hasRole("ADMIN") // 비밀번호 해시를 통째로 주고받으므로 관리자만
                         .requestMatchers("/accounts/**").permitAll()
+                        .requestMatchers("/actuator/health").permitAll() // 상태 확인(UP/DOWN 만, 상세 내용 없음)은 로드밸런서가 인증 없이
+                        .requestMatchers("/actuator/**").hasRole("ADMIN") // 메트릭은 엔드포인트, 아이디 키 수 등 내부 정보라 관리자만
+                        .requestMatchers("/error").permitAll() // 에러 응답(503 등) 허용
                         .anyRequest().authenticated())  // 다른 모든 요청은 인증 필요
 
+                // 관리자 인증은 HTTP Basic (spring.security.user.*)
+                .httpBasic(Customizer.withDefaults())
+
                 .headers(headers -> headers
                         .frameOptions(HeadersConfigurer.FrameOptionsConfig::sameOrigin));  // H2 콘솔을 iframe으로 열 수 있도록 설정
 
         return http.build();
     }
 
+    // 해싱은 요청 스레드가 아닌 전용 스레드풀에서 실행 (account.password.hashing.*)
+    // BCrypt 강도는 시작할 때 측정해서 결정 (account.password.bcrypt.*), 저장 형식은 {bcrypt}$2a$...
+    @Bean
+    public PasswordEncoder passwordEncoder(PasswordHashingProperties hashingProperties, BCryptProperties bcryptProperties,
+                                           MeterRegistry meterRegistry) {
+        int strength = bcryptProperties.strength() > 0
+                ? bcryptProperties.strength()
+                : BCryptStrengthCalibrator.calibrate(bcryptProperties.targetHashTime(), bcryptProperties.minStrength(), bcryptProperties.maxStrength());
+        BCryptPasswordEncoder bcrypt = new BCryptPasswordEncoder(strength);
+
+        DelegatingPasswordEncoder delegatingEncoder = new DelegatingPasswordEncoder("bcrypt", Map.of("bcrypt", bcrypt));
+        // 접두사 없이 저장된 기존 해시도 비교 가능 (로그인 성공시 다시 해싱됨)
+        delegatingEncoder.setDefaultPasswordEncoderForMatches(bcrypt);
+
+        return new BoundedPasswordEncoder(delegatingEncoder, hashingProperties, meterRegistry);
+    }
+
+    // 로그인 시도 제한 (account.login.throttle.*)
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public LoginRateLimiter loginRateLimiter(LoginThrottleProperties throttleProperties, MeterRegistry meterRegistry) {
+        return new LoginRateLimiter(throttleProperties, meterRegistry);
     }
 }
@@ -0,0 +1,11 @@
+package main.accountapi.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+// 같은 아이디 동시 로그인 조회를 DB 조회 한번으로 합치는 설정 (account.single-flight.*)
+@ConfigurationProperties(prefix = "account.single-flight")
+public record SingleFlightProperties(@DefaultValue("2s") Duration timeout) { // 먼저 시작한 조회의 결과를 기다리는 최대 시간 (넘으면 503)
+}
@@ -1,53 +1,272 @@
 package main.accountapi.controller;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.http.HttpServletRequest;
 import main.accountapi.model.UserStatus;
+import main.accountapi.model.dto.AccountChangePageResponse;
+import main.accountapi.model.dto.AccountExportRow;
+import main.accountapi.model.dto.AccountLookupRequest;
+import main.accountapi.model.dto.AccountLookupResponse;
+import main.accountapi.model.dto.AccountPageResponse;
+import main.accountapi.model.dto.AccountPatchRequest;
 import main.accountapi.model.dto.AccountResponse;
+import main.accountapi.model.dto.AccountSearchResponse;
 import main.accountapi.model.dto.AuthenticationResponse;
+import main.accountapi.model.dto.BulkRegisterResponse;
 import main.accountapi.model.dto.LoginRequest;
 import main.accountapi.model.dto.RegisterRequest;
+import main.accountapi.security.LoginRateLimiter;
+import main.accountapi.service.AccountChangeFeed;
 import main.accountapi.service.AccountService;
+import main.accountapi.service.IdempotencyStore;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataAccessException;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
 
 @RestController
 @RequestMapping("/accounts")
 public class AccountController {
 
+    private static final Logger log = LoggerFactory.getLogger(AccountController.class);
+
+    private static final String APPLICATION_NDJSON_VALUE = "application/x-ndjson";
+    private static final String TEXT_CSV_VALUE = "text/csv";
+    private static final String IDEMPOTENCY_KEY = "Idempotency-Key";
+    private static final String IDEMPOTENT_REPLAYED = "Idempotent-Replayed";
+
     private final AccountService accountService;
+    private final ObjectMapper objectMapper;
+    private final LoginRateLimiter loginRateLimiter;
+    private final AccountChangeFeed changeFeed;
+    private final IdempotencyStore<AccountResponse> registerIdempotencyStore;
 
-    public AccountController(AccountService accountService) {
+    public AccountController(AccountService accountService, ObjectMapper objectMapper, LoginRateLimiter loginRateLimiter,
+                             AccountChangeFeed changeFeed, IdempotencyStore<AccountResponse> registerIdempotencyStore) {
         this.accountService = accountService;
+        this.objectMapper = objectMapper;
+        this.loginRateLimiter = loginRateLimiter;
+        this.changeFeed = changeFeed;
+        this.registerIdempotencyStore = registerIdempotencyStore;
     }
 
-    // 회원가입
+    // 회원가입 (Idempotency-Key 가 있으면 같은 키의 재시도는 가입하지 않고 처음 결과를 그대로 201 로 반환)
     @PostMapping("/register")
-    public ResponseEntity<AccountResponse> register(@RequestBody RegisterRequest request) {
-        AccountResponse response = accountService.register(request);
-        return new ResponseEntity<>(response, HttpStatus.CREATED);
+    public ResponseEntity<AccountResponse> register(@RequestBody RegisterRequest request,
+                                                    @RequestHeader(value = IDEMPOTENCY_KEY, required = false) String idempotencyKey) {
+        if (idempotencyKey == null) {
+            AccountResponse response = accountService.register(request);
+            return new ResponseEntity<>(response, HttpStatus.CREATED);
+        }
+        if (idempotencyKey.isBlank() || idempotencyKey.length() > IdempotencyStore.MAX_KEY_LENGTH) {
+            return new ResponseEntity<>(null, HttpStatus.BAD_REQUEST);
+        }
+        // 비밀번호는 보관하지 않고 나머지 값으로 같은 요청인지 확인
+        List<String> fingerprint = Arrays.asList(request.ids(), request.name(), request.email());
+        IdempotencyStore.Outcome<AccountResponse> outcome =
+                registerIdempotencyStore.execute(idempotencyKey, fingerprint, () -> accountService.register(request));
+        return ResponseEntity.status(HttpStatus.CREATED)
+                .header(IDEMPOTENT_REPLAYED, String.valueOf(outcome.replayed()))
+                .body(outcome.value());
     }
 
-    // 로그인
-    @PostMapping("/login")
-    public ResponseEntity<?> login(@RequestBody LoginRequest request) {
+    // 일괄 회원가입
+    @PostMapping("/bulk")
+    public ResponseEntity<BulkRegisterResponse> registerAll(@RequestBody List<RegisterRequest> requests) {
         try {
-            // 로그인 요청을 처리하고 성공적인 응답을 반환
-            AccountResponse response = accountService.login(request);
+            BulkRegisterResponse response = accountService.registerAll(requests);
             return new ResponseEntity<>(response, HttpStatus.OK);
         } catch (IllegalArgumentException e) {
-            // 로그인 실패시 예외 처리 (잘못된 아이디 또는 비밀번호)
-            return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
-                    .body("잘못된 아이디 또는 비밀번호");
+            return new ResponseEntity<>(null, HttpStatus.BAD_REQUEST);
         }
     }
 
-    // 모든 계정 조회
+    // 로그인
+    @PostMapping("/login")
+    public ResponseEntity<?> login(@RequestBody LoginRequest request, HttpServletRequest servletRequest) {
+        // 시도 제한을 넘으면 DB 조회, 비밀번호 해싱 없이 바로 429
+        // 원격 주소는 게이트웨이가 아닌 클라이언트 주소 (신뢰하는 프록시의 X-Forwarded-For, server.forward-headers-strategy)
+        Duration retryAfter = loginRateLimiter.acquire(request.ids(), servletRequest.getRemoteAddr());
+        if (!retryAfter.isZero()) {
+            return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                    .header(HttpHeaders.RETRY_AFTER, String.valueOf((retryAfter.toNanos() + 999_999_999) / 1_000_000_000)) // 초 단위 올림
+                    .body("로그인 시도가 너무 많습니다. 잠시 후 다시 시도해주세요.");
+        }
+        // 로그인 실패 (잘못된 아이디 또는 비밀번호) 는 예외 없이 401
+        return accountService.login(request)
+                .<ResponseEntity<?>>map(response -> new ResponseEntity<>(response, HttpStatus.OK))
+                .orElseGet(() -> ResponseEntity.status(HttpStatus.UNAUTHORIZED).body("잘못된 아이디 또는 비밀번호"));
+    }
+
+    // 모든 계정 조회 (If-None-Match 가 같으면 목록 조회 없이 304)
     @GetMapping("/all")
-    public ResponseEntity<List<AccountResponse>> getAllAccounts() {
+    public ResponseEntity<List<AccountResponse>> getAllAccounts(WebRequest webRequest) {
+        String eTag = accountService.getAccountsVersion().eTag();
+        if (webRequest.checkNotModified(eTag)) {
+            return null;
+        }
         List<AccountResponse> accounts = accountService.getAllAccounts();
-        return new ResponseEntity<>(accounts, HttpStatus.OK);
+        return ResponseEntity.ok().eTag(eTag).body(accounts);
+    }
+
+    // 계정 페이지 조회 (after 커서 이후 size 개, If-None-Match 가 같으면 304)
+    @GetMapping(value = "/all", params = "after")
+    public ResponseEntity<AccountPageResponse> getAccountsAfter(@RequestParam long after,
+                                                                @RequestParam(required = false) Integer size,
+                                                                WebRequest webRequest) {
+        String eTag = accountService.getAccountsVersion().eTag();
+        if (webRequest.checkNotModified(eTag)) {
+            return null;
+        }
+        AccountPageResponse page = accountService.getAccountsAfter(after, size);
+        return ResponseEntity.ok().eTag(eTag).body(page);
+    }
+
+    // 모든 계정 스트리밍 조회 (NDJSON, 한 줄에 계정 하나)
+    @GetMapping(value = "/all", produces = APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamAllAccounts() {
+        StreamingResponseBody body = outputStream ->
+                accountService.streamAllAccounts(account -> writeLine(outputStream, account));
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(APPLICATION_NDJSON_VALUE))
+                .body(body);
+    }
+
+    // 계정 내보내기 (format=ndjson|csv, 비밀번호 해시 포함, DB 커서에서 읽는 대로 한 줄씩 응답)
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportAccounts(@RequestParam(defaultValue = "ndjson") String format) {
+        boolean csv = "csv".equalsIgnoreCase(format);
+        if (!csv && !"ndjson".equalsIgnoreCase(format)) {
+            return new ResponseEntity<>(null, HttpStatus.BAD_REQUEST);
+        }
+
+        StreamingResponseBody body = csv
+                ? outputStream -> {
+                    writeText(outputStream, AccountCsv.HEADER);
+                    accountService.exportAccounts(row -> writeText(outputStream, AccountCsv.toLine(row)));
+                }
+                : outputStream -> accountService.exportAccounts(row -> writeLine(outputStream, row));
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(csv ? TEXT_CSV_VALUE : APPLICATION_NDJSON_VALUE))
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename(csv ? "accounts.csv" : "accounts.ndjson").build().toString())
+                .body(body);
+    }
+
+    // 계정 가져오기 (내보낸 NDJSON 또는 CSV, 읽는 대로 청크마다 저장하고 커밋한 청크의 결과를 한 줄씩 응답)
+    // 형식이 틀리거나 컬럼 길이를 넘는 줄을 만나면 거기서 멈추고 오류를 마지막 줄로 응답 (앞 청크는 저장된 채로, 다시 보내면 이미 있는 아이디는 건너뜀)
+    // 청크 저장이 DB 오류로 실패하거나 요청 본문을 읽다 끊겨도 같은 방식으로 오류 줄을 쓰고 응답을 끝냄
+    @PostMapping(value = "/import", consumes = {APPLICATION_NDJSON_VALUE, TEXT_CSV_VALUE}, produces = APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> importAccounts(@RequestHeader(HttpHeaders.CONTENT_TYPE) String contentType,
+                                                                InputStream inputStream) {
+        MediaType mediaType = MediaType.parseMediaType(contentType);
+        Charset charset = mediaType.getCharset() != null ? mediaType.getCharset() : StandardCharsets.UTF_8;
+        BufferedReader reader = new BufferedReader(new InputStreamReader(inputStream, charset));
+
+        Iterator<AccountExportRow> rows;
+        try {
+            rows = (mediaType.isCompatibleWith(MediaType.parseMediaType(TEXT_CSV_VALUE))
+                    ? AccountCsv.rows(reader)
+                    : ndjsonRows(reader)).iterator();
+        } catch (IllegalArgumentException e) {
+            return new ResponseEntity<>(null, HttpStatus.BAD_REQUEST);
+        }
+
+        StreamingResponseBody body = outputStream -> {
+            int[] committedChunk = {0};
+            try {
+                accountService.importAccounts(rows, progress -> {
+                    committedChunk[0] = progress.chunk();
+                    writeLine(outputStream, progress);
+                    flush(outputStream); // 청크마다 바로 보냄
+                });
+            } catch (IllegalArgumentException e) {
+                writeLine(outputStream, Map.of("error", e.getMessage()));
+            } catch (DataAccessException e) {
+                log.warn("Account import failed at chunk {}", committedChunk[0] + 1, e);
+                writeLine(outputStream, Map.of("error", (committedChunk[0] + 1) + "번째 청크를 저장하지 못했습니다."));
+            } catch (UncheckedIOException e) {
+                writeLine(outputStream, Map.of("error", "요청 본문을 읽지 못했습니다."));
+            }
+        };
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(APPLICATION_NDJSON_VALUE))
+                .body(body);
+    }
+
+    // 한 줄에 계정 하나 (빈 줄은 건너뜀, 형식이 틀리면 몇 번째 줄인지 IllegalArgumentException)
+    private Stream<AccountExportRow> ndjsonRows(BufferedReader reader) {
+        long[] line = {0};
+        return reader.lines()
+                .filter(text -> {
+                    line[0]++;
+                    return !text.isBlank();
+                })
+                .map(text -> {
+                    AccountExportRow row;
+                    try {
+                        row = objectMapper.readValue(text, AccountExportRow.class);
+                    } catch (JsonProcessingException e) {
+                        throw new IllegalArgumentException(line[0] + "번째 줄: " + e.getOriginalMessage(), e);
+                    }
+                    return AccountCsv.checkLengths(row, line[0] + "번째 줄");
+                });
+    }
+
+    // 계정 검색 (이름, 이메일은 앞부분 일치, 상태는 정확히 일치, 응답의 nextCursor 를 cursor 로 이어서 조회)
+    @GetMapping("/search")
+    public ResponseEntity<AccountSearchResponse> searchAccounts(@RequestParam(required = false) String name,
+                                                                @RequestParam(required = false) String email,
+                                                                @RequestParam(required = false) String status,
+                                                                @RequestParam(required = false) String cursor,
+                                                                @RequestParam(required = false) Integer size) {
+        try {
+            UserStatus userStatus = status == null || status.isBlank() ? null : UserStatus.valueOf(status.toUpperCase());
+            AccountSearchResponse page = accountService.searchAccounts(name, email, userStatus, cursor, size);
+            return new ResponseEntity<>(page, HttpStatus.OK);
+        } catch (IllegalArgumentException e) {
+            return new ResponseEntity<>(null, HttpStatus.BAD_REQUEST);
+        }
+    }
+
+    // 계정 변경 조회 (after 커서 이후 size 개, 응답의 nextCursor 로 이어서 조회)
+    @GetMapping("/changes")
+    public ResponseEntity<AccountChangePageResponse> getChanges(@RequestParam(defaultValue = "0") long after,
+                                                                @RequestParam(required = false) Integer size) {
+        AccountChangePageResponse page = changeFeed.getChangesAfter(after, size);
+        return new ResponseEntity<>(page, HttpStatus.OK);
+    }
+
+    // 계정 변경 스트리밍 (SSE, 다시 연결하면 Last-Event-ID 이후부터)
+    @GetMapping(value = "/changes", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamChanges(@RequestParam(required = false) Long after,
+                                    @RequestHeader(value = "Last-Event-ID", required = false) Long lastEventId) {
+        long cursor = lastEventId != null ? lastEventId : after != null ? after : 0L;
+        return changeFeed.subscribe(cursor);
     }
 
     // 아이디로 계정 조회
@@ -61,17 +280,34 @@ public class AccountController {
 //        }
 //    }
 
-    // 아이디로 계정 조회
+    // 아이디로 계정 조회 (캐시된 정보의 ETag 가 If-None-Match 와 같으면 직렬화 없이 304)
     @GetMapping("/{ids}")
-    public ResponseEntity<AuthenticationResponse> getAccountByIds(@PathVariable String ids) {
+    public ResponseEntity<AuthenticationResponse> getAccountByIds(@PathVariable String ids, WebRequest webRequest) {
         try {
             AuthenticationResponse response = accountService.authenticateLogin(ids);
-            return new ResponseEntity<>(response, HttpStatus.OK);
+            if (webRequest.checkNotModified(response.eTag())) {
+                return null;
+            }
+            return ResponseEntity.ok().eTag(response.eTag()).body(response);
         } catch (IllegalArgumentException e) {
             return new ResponseEntity<>(null, HttpStatus.NOT_FOUND);
         }
     }
 
+    // 여러 아이디로 계정 한번에 조회
+    @PostMapping("/lookup")
+    public ResponseEntity<AccountLookupResponse> lookupAccounts(@RequestBody AccountLookupRequest request) {
+        if (request.ids() == null) {
+            return new ResponseEntity<>(null, HttpStatus.BAD_REQUEST);
+        }
+        try {
+            AccountLookupResponse response = accountService.lookupAccounts(request.ids());
+            return new ResponseEntity<>(response, HttpStatus.OK);
+        } catch (IllegalArgumentException e) {
+            return new ResponseEntity<>(null, HttpStatus.BAD_REQUEST);
+        }
+    }
+
     // 회원 정보 수정
     @PutMapping("/{id}")
     public ResponseEntity<AccountResponse> updateAccount(@PathVariable long id, @RequestBody RegisterRequest request) {
@@ -83,6 +319,20 @@ public class AccountController {
         }
     }
 
+    // 회원 정보 부분 수정 (보낸 값만 수정, version 이 다르면 409)
+    @PatchMapping("/{id}")
+    public ResponseEntity<Void> patchAccount(@PathVariable long id, @RequestBody AccountPatchRequest request) {
+        if (request.version() == null || !request.hasChanges() || request.hasBlankValue()) {
+            return new ResponseEntity<>(HttpStatus.BAD_REQUEST);
+        }
+        try {
+            long version = accountService.patchAccount(id, request);
+            return ResponseEntity.noContent().eTag(AuthenticationResponse.eTag(id, version)).build();
+        } catch (IllegalArgumentException e) {
+            return new ResponseEntity<>(HttpStatus.NOT_FOUND);
+        }
+    }
+
     // 회원 상태 변경
     @PutMapping("/{id}/status")
     public ResponseEntity<AccountResponse> updateStatus(@PathVariable long id, @RequestParam String status) {
@@ -106,4 +356,30 @@ public class AccountController {
         }
     }
 
+    private void writeLine(OutputStream outputStream, Object value) {
+        try {
+            outputStream.write(objectMapper.writeValueAsBytes(value));
+            outputStream.write('\n');
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static void writeText(OutputStream outputStream, String line) {
+        try {
+            outputStream.write(line.getBytes(StandardCharsets.UTF_8));
+            outputStream.write('\n');
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static void flush(OutputStream outputStream) {
+        try {
+            outputStream.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
 }
@@ -0,0 +1,136 @@
+package main.accountapi.controller;
+
+import main.accountapi.model.UserStatus;
+import main.accountapi.model.dto.AccountExportRow;
+import main.accountapi.model.entity.Account;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Stream;
+
+// 계정 내보내기/가져오기 CSV (첫 줄은 헤더, 쉼표, 따옴표, 줄바꿈이 있는 값은 따옴표로 감싸고 따옴표는 두번)
+// 비어 있는 칸은 null (상태, 마지막 로그인 시각이 없는 계정)
+final class AccountCsv {
+
+    static final String HEADER = "ids,password,name,email,status,last_login_at";
+    private static final int COLUMNS = 6;
+
+    private AccountCsv() {
+    }
+
+    // 계정 한 줄 (줄바꿈 제외)
+    static String toLine(AccountExportRow row) {
+        return String.join(",", escape(row.ids()), escape(row.password()), escape(row.name()), escape(row.email()),
+                row.status() == null ? "" : row.status().name(),
+                row.lastLoginAt() == null ? "" : row.lastLoginAt().toString());
+    }
+
+    private static String escape(String value) {
+        if (value == null) {
+            return "";
+        }
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            return value;
+        }
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+
+    // 헤더는 바로 확인하고 (다르면 IllegalArgumentException, 앞의 BOM 은 무시), 나머지는 꺼낼 때마다 한 행씩 읽음
+    static Stream<AccountExportRow> rows(BufferedReader reader) {
+        List<String> header = readRecord(reader);
+        if (header == null || !HEADER.equals(String.join(",", header).replace("\uFEFF", ""))) {
+            throw new IllegalArgumentException("CSV 헤더는 " + HEADER + " 이어야 합니다.");
+        }
+        long[] row = {0};
+        return Stream.generate(() -> readRecord(reader))
+                .takeWhile(Objects::nonNull)
+                .filter(fields -> !(fields.size() == 1 && fields.get(0).isEmpty())) // 빈 줄
+                .map(fields -> toRow(fields, ++row[0]));
+    }
+
+    private static AccountExportRow toRow(List<String> fields, long row) {
+        if (fields.size() != COLUMNS) {
+            throw new IllegalArgumentException(row + "번째 행: 칸 수가 " + COLUMNS + "개가 아닙니다.");
+        }
+        AccountExportRow parsed;
+        try {
+            parsed = new AccountExportRow(emptyToNull(fields.get(0)), emptyToNull(fields.get(1)),
+                    emptyToNull(fields.get(2)), emptyToNull(fields.get(3)),
+                    fields.get(4).isEmpty() ? null : UserStatus.valueOf(fields.get(4)),
+                    fields.get(5).isEmpty() ? null : Instant.parse(fields.get(5)));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new IllegalArgumentException(row + "번째 행: " + e.getMessage(), e);
+        }
+        return checkLengths(parsed, row + "번째 행");
+    }
+
+    // 컬럼 길이를 넘는 값이 있으면 위치(position)를 붙여서 IllegalArgumentException
+    // (저장할 때 넘으면 청크 전체가 실패하므로 읽을 때 확인, NDJSON 가져오기도 같이 사용)
+    static AccountExportRow checkLengths(AccountExportRow row, String position) {
+        checkLength("ids", row.ids(), Account.IDS_LENGTH, position);
+        checkLength("password", row.password(), Account.PASSWORD_LENGTH, position);
+        checkLength("name", row.name(), Account.NAME_LENGTH, position);
+        checkLength("email", row.email(), Account.EMAIL_LENGTH, position);
+        return row;
+    }
+
+    private static void checkLength(String column, String value, int length, String position) {
+        if (value != null && value.length() > length) {
+            throw new IllegalArgumentException(position + ": " + column + " 은(는) " + length + "자까지 가능합니다.");
+        }
+    }
+
+    private static String emptyToNull(String value) {
+        return value.isEmpty() ? null : value;
+    }
+
+    // 레코드 하나를 읽음 (따옴표 안의 줄바꿈은 값에 포함), 더 읽을 게 없으면 null
+    private static List<String> readRecord(BufferedReader reader) {
+        try {
+            int c = reader.read();
+            if (c == -1) {
+                return null;
+            }
+            List<String> fields = new ArrayList<>(COLUMNS);
+            StringBuilder field = new StringBuilder();
+            boolean quoted = false;
+            for (; c != -1; c = reader.read()) {
+                if (quoted) {
+                    if (c != '"') {
+                        field.append((char) c);
+                        continue;
+                    }
+                    reader.mark(1);
+                    if (reader.read() == '"') {
+                        field.append('"');
+                    } else {
+                        reader.reset();
+                        quoted = false;
+                    }
+                } else if (c == '"') {
+                    quoted = true;
+                } else if (c == ',') {
+                    fields.add(field.toString());
+                    field.setLength(0);
+                } else if (c == '\n') {
+                    break;
+                } else if (c != '\r') {
+                    field.append((char) c);
+                }
+            }
+            if (quoted) {
+                throw new IllegalArgumentException("CSV 따옴표가 닫히지 않았습니다.");
+            }
+            fields.add(field.toString());
+            return fields;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,13 @@
+package main.accountapi.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+// 요청한 version 이후에 다른 요청이 먼저 계정을 수정했을 때 (409)
+@ResponseStatus(HttpStatus.CONFLICT)
+public class AccountVersionConflictException extends RuntimeException {
+
+    public AccountVersionConflictException() {
+        super("다른 요청이 먼저 계정을 수정했습니다. 다시 조회 후 시도해주세요.");
+    }
+}
@@ -0,0 +1,13 @@
+package main.accountapi.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+// 이미 존재하는 아이디로 가입하거나 수정할 때 (409)
+@ResponseStatus(HttpStatus.CONFLICT)
+public class DuplicateAccountException extends RuntimeException {
+
+    public DuplicateAccountException(Throwable cause) {
+        super("존재하는 아이디입니다.", cause);
+    }
+}
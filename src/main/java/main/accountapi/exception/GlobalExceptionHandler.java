@@ -0,0 +1,41 @@
+package main.accountapi.exception;
+
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+
+// 컨트롤러에서 처리하지 않는 예외를 한 곳에서 응답으로 변환 (본문은 예외 메시지)
+// 로그인 실패처럼 자주 일어나는 결과는 예외 대신 반환값으로 처리하고, 여기서는 실제 오류만 다룸
+@RestControllerAdvice
+public class GlobalExceptionHandler {
+
+    // 비밀번호 해싱 대기열이 가득 찼을 때, 같은 아이디 조회 결과를 기다리다 시간이 지났을 때 (503, 1초 후 다시 시도)
+    @ExceptionHandler({PasswordHashingBusyException.class, SingleFlightTimeoutException.class})
+    public ResponseEntity<String> handleServiceBusy(RuntimeException e) {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(e.getMessage());
+    }
+
+    // 아이디 중복, 다른 요청이 먼저 수정한 경우 (409)
+    @ExceptionHandler({DuplicateAccountException.class, AccountVersionConflictException.class})
+    public ResponseEntity<String> handleConflict(RuntimeException e) {
+        return new ResponseEntity<>(e.getMessage(), HttpStatus.CONFLICT);
+    }
+
+    // 엔티티를 읽고 저장하는 사이에 다른 요청이 먼저 수정한 경우 (@Version, PUT /{id}, PUT /{id}/status, DELETE /{id}) (409)
+    // 예외 메시지는 엔티티 이름과 id 라서 version 충돌과 같은 메시지로 응답
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    public ResponseEntity<String> handleOptimisticLockingFailure(OptimisticLockingFailureException e) {
+        return new ResponseEntity<>(new AccountVersionConflictException().getMessage(), HttpStatus.CONFLICT);
+    }
+
+    // 같은 Idempotency-Key 로 내용이 다른 요청 (422)
+    @ExceptionHandler(IdempotencyKeyReusedException.class)
+    public ResponseEntity<String> handleIdempotencyKeyReused(IdempotencyKeyReusedException e) {
+        return new ResponseEntity<>(e.getMessage(), HttpStatus.UNPROCESSABLE_ENTITY);
+    }
+}
@@ -0,0 +1,13 @@
+package main.accountapi.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+// 같은 Idempotency-Key 로 내용이 다른 요청을 보냈을 때 (422)
+@ResponseStatus(HttpStatus.UNPROCESSABLE_ENTITY)
+public class IdempotencyKeyReusedException extends RuntimeException {
+
+    public IdempotencyKeyReusedException() {
+        super("이미 다른 요청에 사용한 Idempotency-Key 입니다.");
+    }
+}
@@ -0,0 +1,13 @@
+package main.accountapi.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+// 비밀번호 해싱 대기열이 가득 찼을 때 (503)
+@ResponseStatus(HttpStatus.SERVICE_UNAVAILABLE)
+public class PasswordHashingBusyException extends RuntimeException {
+
+    public PasswordHashingBusyException() {
+        super("비밀번호 처리 요청이 많습니다. 잠시 후 다시 시도해주세요.");
+    }
+}
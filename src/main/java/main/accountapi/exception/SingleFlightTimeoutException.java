@@ -0,0 +1,13 @@
+package main.accountapi.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+// 같은 아이디를 먼저 조회 중인 요청의 결과를 제한 시간 안에 받지 못했을 때 (503)
+@ResponseStatus(HttpStatus.SERVICE_UNAVAILABLE)
+public class SingleFlightTimeoutException extends RuntimeException {
+
+    public SingleFlightTimeoutException() {
+        super("조회 요청이 많습니다. 잠시 후 다시 시도해주세요.");
+    }
+}
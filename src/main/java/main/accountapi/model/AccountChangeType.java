@@ -0,0 +1,5 @@
+package main.accountapi.model;
+
+public enum AccountChangeType { // 계정 변경 종류
+    CREATED, UPDATED, STATUS_CHANGED, DELETED // 가입, 정보 수정 (비밀번호 포함), 상태 변경, 삭제
+}
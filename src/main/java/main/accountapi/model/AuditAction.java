@@ -0,0 +1,5 @@
+package main.accountapi.model;
+
+public enum AuditAction { // 감사 기록 종류
+    LOGIN, REGISTER, UPDATE, STATUS_CHANGE, DELETE // 로그인 (실패 포함), 가입, 정보 수정, 상태 변경, 삭제
+}
@@ -0,0 +1,5 @@
+package main.accountapi.model;
+
+public enum BulkRegisterStatus { // 일괄 회원가입 행별 결과
+    CREATED, DUPLICATE, INVALID, BUSY // 가입됨, 중복 아이디, 빈 값, 해싱 대기열이 가득 차서 가입하지 못함 (다시 시도)
+}
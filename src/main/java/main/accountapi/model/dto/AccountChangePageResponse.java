@@ -0,0 +1,6 @@
+package main.accountapi.model.dto;
+
+import java.util.List;
+
+// 계정 변경 페이지 응답 (다음 요청은 after=nextCursor, 새 변경이 없으면 nextCursor 는 그대로)
+public record AccountChangePageResponse(List<AccountChangeResponse> changes, long nextCursor) {}
@@ -0,0 +1,9 @@
+package main.accountapi.model.dto;
+
+import main.accountapi.model.AccountChangeType;
+
+import java.time.Instant;
+
+//계정 변경 응답
+public record AccountChangeResponse(long id, long accountId, String ids, String previousIds,
+                                    AccountChangeType type, Instant changedAt) {}
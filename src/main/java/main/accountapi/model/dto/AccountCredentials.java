@@ -0,0 +1,11 @@
+package main.accountapi.model.dto;
+
+import main.accountapi.model.UserStatus;
+
+// 로그인 확인용 조회 결과 (엔티티 대신 필요한 컬럼만 조회)
+public record AccountCredentials(long id, String ids, String password, String name, String email, UserStatus status) {
+
+    public AccountResponse toResponse() {
+        return new AccountResponse(id, ids, name, email, status);
+    }
+}
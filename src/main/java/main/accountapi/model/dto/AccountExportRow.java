@@ -0,0 +1,9 @@
+package main.accountapi.model.dto;
+
+import main.accountapi.model.UserStatus;
+
+import java.time.Instant;
+
+// 내보내기/가져오기 한 줄 (password 는 저장된 BCrypt 해시 그대로, id 는 가져올 때 새로 발급하므로 넣지 않음)
+public record AccountExportRow(String ids, String password, String name, String email, UserStatus status, Instant lastLoginAt) {
+}
@@ -0,0 +1,5 @@
+package main.accountapi.model.dto;
+
+// 가져오기 청크 하나의 결과 (청크마다 커밋하고 한 줄씩 응답), rows 는 지금까지 읽은 전체 줄 수
+public record AccountImportProgress(int chunk, int created, int duplicates, int invalid, long rows) {
+}
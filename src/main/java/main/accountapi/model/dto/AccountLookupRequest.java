@@ -0,0 +1,7 @@
+package main.accountapi.model.dto;
+
+import java.util.List;
+
+// 여러 아이디 한번에 조회 요청
+public record AccountLookupRequest(List<String> ids) {
+}
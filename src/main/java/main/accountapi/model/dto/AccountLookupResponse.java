@@ -0,0 +1,8 @@
+package main.accountapi.model.dto;
+
+import java.util.List;
+import java.util.Map;
+
+// 여러 아이디 한번에 조회 응답 (accounts 는 아이디 -> 계정, 없는 아이디는 missing 에)
+public record AccountLookupResponse(Map<String, AccountResponse> accounts, List<String> missing) {
+}
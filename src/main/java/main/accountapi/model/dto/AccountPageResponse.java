@@ -0,0 +1,7 @@
+package main.accountapi.model.dto;
+
+import java.util.List;
+
+// 계정 목록 페이지 응답 (nextCursor 가 null 이면 마지막 페이지)
+public record AccountPageResponse(List<AccountResponse> accounts, Long nextCursor) {
+}
@@ -0,0 +1,18 @@
+package main.accountapi.model.dto;
+
+// 회원정보 부분 수정 요청 (null 인 값은 바꾸지 않음, version 은 마지막으로 조회한 값)
+public record AccountPatchRequest(String ids, String password, String name, String email, Long version) {
+
+    public boolean hasChanges() {
+        return ids != null || password != null || name != null || email != null;
+    }
+
+    // 바꾸려는 값이 비어 있으면 (빈 비밀번호가 해싱되어 저장되거나 빈 아이디, 이름, 이메일이 저장되지 않게)
+    public boolean hasBlankValue() {
+        return isBlank(ids) || isBlank(password) || isBlank(name) || isBlank(email);
+    }
+
+    private static boolean isBlank(String value) {
+        return value != null && value.isBlank();
+    }
+}
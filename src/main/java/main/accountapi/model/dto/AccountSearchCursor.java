@@ -0,0 +1,31 @@
+package main.accountapi.model.dto;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+// 계정 검색 커서 (마지막 계정의 정렬 값과 id)
+// 이름 검색은 (name, id), 이메일 검색은 (email, id) 순, 그 외에는 id 순이라 key 는 null
+public record AccountSearchCursor(String key, long id) {
+
+    // 검색 결과의 마지막 계정으로 다음 커서 생성 (정렬 기준은 AccountRepositoryCustom.searchAccounts 와 같음)
+    public static AccountSearchCursor of(AccountResponse last, String namePrefix, String emailPrefix) {
+        String key = namePrefix != null ? last.name() : emailPrefix != null ? last.email() : null;
+        return new AccountSearchCursor(key, last.id());
+    }
+
+    // "id:key" 를 URL 에 그대로 쓸 수 있게 Base64 로
+    public String encode() {
+        String value = key == null ? String.valueOf(id) : id + ":" + key;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    // 잘못된 커서면 IllegalArgumentException
+    public static AccountSearchCursor decode(String cursor) {
+        String value = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+        int separator = value.indexOf(':');
+        if (separator < 0) {
+            return new AccountSearchCursor(null, Long.parseLong(value));
+        }
+        return new AccountSearchCursor(value.substring(separator + 1), Long.parseLong(value.substring(0, separator)));
+    }
+}
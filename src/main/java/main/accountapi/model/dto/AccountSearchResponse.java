@@ -0,0 +1,7 @@
+package main.accountapi.model.dto;
+
+import java.util.List;
+
+// 계정 검색 페이지 응답 (nextCursor 를 다음 요청의 cursor 로, null 이면 마지막 페이지)
+public record AccountSearchResponse(List<AccountResponse> accounts, String nextCursor) {
+}
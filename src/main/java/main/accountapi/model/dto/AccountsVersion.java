@@ -0,0 +1,10 @@
+package main.accountapi.model.dto;
+
+// 전체 계정 목록의 버전 (행 수, 최대 id, version 합계)
+// 가입하면 행 수와 최대 id, 수정하면 version 합계, 삭제하면 행 수가 바뀜
+public record AccountsVersion(long count, long maxId, long versionSum) {
+
+    public String eTag() {
+        return "\"" + count + "-" + maxId + "-" + versionSum + "\"";
+    }
+}
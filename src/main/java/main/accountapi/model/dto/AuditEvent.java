@@ -0,0 +1,10 @@
+package main.accountapi.model.dto;
+
+import main.accountapi.model.AuditAction;
+
+import java.time.Instant;
+
+// 감사 기록 한 건 (요청 스레드에서 만들어서 버퍼에 넣고 나중에 배치 insert)
+// accountId 는 없는 아이디로 로그인한 경우 null
+public record AuditEvent(AuditAction action, Long accountId, String ids, boolean success, Instant occurredAt) {
+}
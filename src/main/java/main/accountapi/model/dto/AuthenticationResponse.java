@@ -1,6 +1,26 @@
 package main.accountapi.model.dto;
 
-import main.accountapi.model.UserStatus;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 
-public record AuthenticationResponse(String ids, String password, String name, String email) {
-}
\ No newline at end of file
+// id, version 은 응답에는 내보내지 않고 ETag 만들 때만 사용
+// 비밀번호는 게이트웨이가 BCrypt 해시($2a$...)를 직접 비교하므로 저장 형식의 {bcrypt} 접두사를 떼고 내보냄
+public record AuthenticationResponse(String ids, String password, String name, String email,
+                                     @JsonIgnore long id, @JsonIgnore long version) {
+
+    private static final String BCRYPT_PREFIX = "{bcrypt}";
+
+    public AuthenticationResponse {
+        if (password != null && password.startsWith(BCRYPT_PREFIX)) {
+            password = password.substring(BCRYPT_PREFIX.length());
+        }
+    }
+
+    // 같은 아이디로 재가입해도 겹치지 않게 id 와 version 을 함께 사용
+    public String eTag() {
+        return eTag(id, version);
+    }
+
+    public static String eTag(long id, long version) {
+        return "\"" + id + "-" + version + "\"";
+    }
+}
@@ -0,0 +1,7 @@
+package main.accountapi.model.dto;
+
+import java.util.List;
+
+// 일괄 회원가입 응답 (results 는 요청 순서와 같음)
+public record BulkRegisterResponse(int created, int failed, List<BulkRegisterResult> results) {
+}
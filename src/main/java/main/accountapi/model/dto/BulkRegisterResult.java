@@ -0,0 +1,7 @@
+package main.accountapi.model.dto;
+
+import main.accountapi.model.BulkRegisterStatus;
+
+// 일괄 회원가입 행별 결과 (가입된 경우에만 account 가 있음)
+public record BulkRegisterResult(String ids, BulkRegisterStatus status, AccountResponse account) {
+}
@@ -6,31 +6,81 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 import main.accountapi.model.UserStatus;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.DynamicUpdate;
+import org.hibernate.annotations.NaturalId;
+import org.hibernate.annotations.NaturalIdCache;
 
+import java.time.Instant;
 
+
+// 엔티티 수정시 바뀐 컬럼만 update
+// 검색용 인덱스는 id 를 뒤에 붙여서 같은 값 안에서 id 순으로 읽을 수 있게 함 (GET /accounts/search)
+// 2차 캐시: id -> 엔티티 (accounts), 아이디(ids) -> id (account-ids), 크기와 만료는 application.conf
 @Entity
-@Table(name = "users")
+@DynamicUpdate
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = Account.CACHE_REGION)
+@NaturalIdCache(region = Account.NATURAL_ID_CACHE_REGION)
+@Table(name = "users", uniqueConstraints = @UniqueConstraint(name = Account.UK_USERS_IDS, columnNames = "ids"),
+        indexes = {
+                @Index(name = Account.IX_USERS_NAME, columnList = "name, id"),
+                @Index(name = Account.IX_USERS_EMAIL, columnList = "email, id"),
+                @Index(name = Account.IX_USERS_STATUS, columnList = "status, id")
+        })
 @AllArgsConstructor
 @NoArgsConstructor
 @Getter
 @Setter
 public class Account {
 
+    // 아이디 중복을 막는 유니크 인덱스 이름
+    public static final String UK_USERS_IDS = "UK_USERS_IDS";
+
+    // 이름, 이메일 앞부분 검색과 상태 검색용 인덱스 이름
+    public static final String IX_USERS_NAME = "IX_USERS_NAME";
+    public static final String IX_USERS_EMAIL = "IX_USERS_EMAIL";
+    public static final String IX_USERS_STATUS = "IX_USERS_STATUS";
+
+    // 2차 캐시 영역 이름
+    public static final String CACHE_REGION = "accounts";
+    public static final String NATURAL_ID_CACHE_REGION = "account-ids";
+
+    // 컬럼 길이 (Account.sql 과 같게)
+    public static final int IDS_LENGTH = 50;
+    public static final int PASSWORD_LENGTH = 100;
+    public static final int NAME_LENGTH = 50;
+    public static final int EMAIL_LENGTH = 100;
+
+    // 시퀀스에서 50개씩 미리 받아와서 insert 를 JDBC 배치로 묶을 수 있게 함 (IDENTITY 는 배치 불가)
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "users_seq")
+    @SequenceGenerator(name = "users_seq", sequenceName = "users_seq", allocationSize = 50)
     private long id;
 
-    //유저 아이디
+    //유저 아이디 (회원정보 수정으로 바뀔 수 있는 자연 키)
+    @NaturalId(mutable = true)
+    @Column(length = IDS_LENGTH)
     private String ids;
 
+    @Column(length = PASSWORD_LENGTH)
     private String password;
 
+    @Column(length = NAME_LENGTH)
     private String name;
 
+    @Column(length = EMAIL_LENGTH)
     private String email;
 
     @Enumerated(EnumType.STRING)
     @Column(nullable = false)
     private UserStatus status;
 
+    // 마지막 로그인 시각 (LastLoginRecorder 가 모아서 반영, version 은 올리지 않음)
+    private Instant lastLoginAt;
+
+    // 수정될 때마다 1씩 증가 (낙관적 락, ETag 에 사용)
+    @Version
+    private long version;
+
 }
@@ -0,0 +1,41 @@
+package main.accountapi.model.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import main.accountapi.model.AccountChangeType;
+
+import java.time.Instant;
+
+// 계정 변경 기록 (outbox), 계정을 바꾸는 트랜잭션 안에서 같이 저장
+// 소비자가 id 커서로 읽어가므로 id 는 insert 할 때 DB 가 발급 (여러 인스턴스에서도 insert 순서, AccountChangeLog 가 JDBC 배치로 저장)
+@Entity
+@Table(name = "account_changes", indexes = @Index(name = "IX_ACCOUNT_CHANGES_ACCOUNT_ID", columnList = "accountId"))
+@AllArgsConstructor
+@NoArgsConstructor
+@Getter
+@Setter
+public class AccountChange {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private long id;
+
+    // 바뀐 계정의 id
+    private long accountId;
+
+    // 바뀐 뒤 아이디 (삭제면 삭제 전 아이디)
+    private String ids;
+
+    // 아이디가 바뀌었으면 바뀌기 전 아이디
+    private String previousIds;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private AccountChangeType type;
+
+    @Column(nullable = false)
+    private Instant changedAt;
+}
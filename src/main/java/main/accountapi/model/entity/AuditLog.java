@@ -0,0 +1,45 @@
+package main.accountapi.model.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import main.accountapi.model.AuditAction;
+
+import java.time.Instant;
+
+// 로그인, 계정 변경 감사 기록 (AuditRecorder 가 모아서 JDBC 배치 insert, 요청 트랜잭션과는 별개)
+@Entity
+@Table(name = "audit_log", indexes = @Index(name = "IX_AUDIT_LOG_ACCOUNT_ID", columnList = "accountId"))
+@AllArgsConstructor
+@NoArgsConstructor
+@Getter
+@Setter
+public class AuditLog {
+
+    // 요청한 아이디는 검증 전 입력이라 이 길이까지만 기록 (넘으면 잘라서)
+    public static final int IDS_LENGTH = 255;
+
+    // insert 할 때 DB 가 발급 (배치 insert 에 시퀀스 조회가 끼지 않게)
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private AuditAction action;
+
+    // 대상 계정의 id (없는 아이디로 로그인하면 null)
+    private Long accountId;
+
+    // 요청한 아이디
+    @Column(length = IDS_LENGTH)
+    private String ids;
+
+    @Column(nullable = false)
+    private boolean success;
+
+    @Column(nullable = false)
+    private Instant occurredAt;
+}
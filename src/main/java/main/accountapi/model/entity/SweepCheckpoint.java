@@ -0,0 +1,35 @@
+package main.accountapi.model.entity;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.Instant;
+
+// 일괄 작업이 어디까지 진행했는지 (청크마다 같은 트랜잭션에서 갱신, 작업이 끝나면 삭제)
+@Entity
+@Table(name = "sweep_checkpoint")
+@AllArgsConstructor
+@NoArgsConstructor
+@Getter
+@Setter
+public class SweepCheckpoint {
+
+    // 작업 이름
+    @Id
+    private String name;
+
+    // 마지막으로 처리한 계정 id
+    private long lastId;
+
+    // 작업을 시작할 때 정한 기준 시각 (이어서 실행해도 같은 기준 사용)
+    private Instant cutoff;
+
+    private Instant startedAt;
+
+    private Instant updatedAt;
+}
@@ -0,0 +1,35 @@
+package main.accountapi.repository;
+
+import main.accountapi.model.dto.AccountChangeResponse;
+import main.accountapi.model.entity.AccountChange;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.List;
+
+public interface AccountChangeRepository extends JpaRepository<AccountChange, Long>, AccountChangeRepositoryCustom {
+
+    // id 커서 이후의 변경을 id 순으로 limit 만큼 조회
+    @Transactional(readOnly = true)
+    @Query("select new main.accountapi.model.dto.AccountChangeResponse(c.id, c.accountId, c.ids, c.previousIds, c.type, c.changedAt) " +
+            "from AccountChange c where c.id > :after order by c.id")
+    List<AccountChangeResponse> findChangesAfter(@Param("after") long after, Limit limit);
+
+    // before 이전 변경 중 같은 계정에 더 최근 변경이 있는 것 (압축 대상)
+    // 아이디가 바뀐 변경(previousIds)은 남김 (뒤쳐진 소비자가 예전 아이디를 지울 수 있게, 보관 기간이 지나면 삭제)
+    @Transactional(readOnly = true)
+    @Query("select c.id from AccountChange c where c.changedAt < :before and c.previousIds is null and exists " +
+            "(select 1 from AccountChange n where n.accountId = c.accountId and n.id > c.id)")
+    List<Long> findSupersededIds(@Param("before") Instant before, Limit limit);
+
+    // before 이전 변경 삭제 (보관 기간이 지난 것)
+    @Transactional
+    @Modifying
+    @Query("delete from AccountChange c where c.changedAt < :before")
+    int deleteChangedBefore(@Param("before") Instant before);
+}
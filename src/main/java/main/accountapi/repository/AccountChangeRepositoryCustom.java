@@ -0,0 +1,11 @@
+package main.accountapi.repository;
+
+import main.accountapi.model.entity.AccountChange;
+
+import java.util.List;
+
+public interface AccountChangeRepositoryCustom {
+
+    // 변경 기록을 JDBC 배치 insert 로 한번에 저장 (계정을 바꾸는 트랜잭션 안에서, id 는 DB 가 발급)
+    void insertAll(List<AccountChange> changes);
+}
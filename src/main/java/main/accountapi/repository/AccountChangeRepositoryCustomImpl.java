@@ -0,0 +1,31 @@
+package main.accountapi.repository;
+
+import main.accountapi.model.entity.AccountChange;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+
+public class AccountChangeRepositoryCustomImpl implements AccountChangeRepositoryCustom {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public AccountChangeRepositoryCustomImpl(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    // 엔티티를 거치지 않고 바로 insert (id 조회 없이 배치 하나)
+    @Override
+    @Transactional
+    public void insertAll(List<AccountChange> changes) {
+        List<Object[]> batchArgs = new ArrayList<>(changes.size());
+        for (AccountChange change : changes) {
+            batchArgs.add(new Object[]{change.getAccountId(), change.getIds(), change.getPreviousIds(), change.getType().name(),
+                    change.getChangedAt().atOffset(ZoneOffset.UTC)});
+        }
+        jdbcTemplate.batchUpdate("insert into account_changes (account_id, ids, previous_ids, type, changed_at) " +
+                "values (?, ?, ?, ?, ?)", batchArgs);
+    }
+}
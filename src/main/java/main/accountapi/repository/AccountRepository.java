@@ -1,9 +1,109 @@
 package main.accountapi.repository;
 
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import main.accountapi.model.dto.AccountResponse;
+import main.accountapi.model.dto.AccountsVersion;
 import main.accountapi.model.entity.Account;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
-public interface AccountRepository extends JpaRepository<Account, Long> {
-    boolean existsAccountByIds(String ids);
-    Account findAccountByIds(String ids);
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
+
+// 조회용 메소드는 엔티티를 영속성 컨텍스트에 올리지 않고 응답 레코드로 바로 조회 (읽기 전용 트랜잭션)
+public interface AccountRepository extends JpaRepository<Account, Long>, AccountRepositoryCustom {
+
+    // 스트리밍 조회시 한번에 가져올 행 수
+    String STREAM_FETCH_SIZE = "500";
+
+    // 모든 계정을 응답 레코드로 조회
+    @Transactional(readOnly = true)
+    @Query("select new main.accountapi.model.dto.AccountResponse(a.id, a.ids, a.name, a.email, a.status) " +
+            "from Account a order by a.id")
+    List<AccountResponse> findAllAccountResponses();
+
+    // 아이디로 계정 조회
+    @Transactional(readOnly = true)
+    @Query("select new main.accountapi.model.dto.AccountResponse(a.id, a.ids, a.name, a.email, a.status) " +
+            "from Account a where a.ids = :ids")
+    Optional<AccountResponse> findAccountResponseByIds(@Param("ids") String ids);
+
+    // 여러 아이디의 계정을 IN 쿼리 한번으로 조회
+    @Transactional(readOnly = true)
+    @Query("select new main.accountapi.model.dto.AccountResponse(a.id, a.ids, a.name, a.email, a.status) " +
+            "from Account a where a.ids in :ids")
+    List<AccountResponse> findAccountResponsesByIdsIn(@Param("ids") Collection<String> ids);
+
+    // 기본키로 아이디만 조회 (부분 수정시 캐시 제거, 변경 기록용)
+    // 방금 가입한 계정이나 바뀐 아이디를 복제 지연으로 놓치지 않게 원본에서 읽음 (readOnly 아님)
+    @Transactional
+    @Query("select a.ids from Account a where a.id = :id")
+    Optional<String> findIdsById(@Param("id") long id);
+
+    // 비밀번호 해시만 변경 (로그인시 재해싱), ETag 가 바뀌도록 version 도 올림
+    @Transactional
+    @Modifying
+    @Query("update Account a set a.password = :password, a.version = a.version + 1 where a.id = :id")
+    int updatePassword(@Param("id") long id, @Param("password") String password);
+
+    // 전체 계정 목록의 버전 (목록을 읽지 않고 집계 한번으로 ETag 계산)
+    @Transactional(readOnly = true)
+    @Query("select new main.accountapi.model.dto.AccountsVersion(count(a), coalesce(max(a.id), 0L), coalesce(sum(a.version), 0L)) " +
+            "from Account a")
+    AccountsVersion findAccountsVersion();
+
+    // 주어진 아이디 중 이미 가입된 아이디만 한번에 조회
+    @Transactional(readOnly = true)
+    @Query("select a.ids from Account a where a.ids in :ids")
+    Set<String> findExistingIds(@Param("ids") Collection<String> ids);
+
+    // findExistingIds 를 원본에서 (저장이 아이디 중복으로 실패한 뒤 걸린 아이디 확인용, 복제본에는 아직 없을 수 있음)
+    @Transactional
+    @Query("select a.ids from Account a where a.ids in :ids")
+    Set<String> findExistingIdsOnPrimary(@Param("ids") Collection<String> ids);
+
+    // id 커서 이후의 계정을 id 순으로 limit 만큼 조회 (키셋 페이지네이션)
+    @Transactional(readOnly = true)
+    @Query("select new main.accountapi.model.dto.AccountResponse(a.id, a.ids, a.name, a.email, a.status) " +
+            "from Account a where a.id > :after order by a.id")
+    List<AccountResponse> findAccountsAfter(@Param("after") long after, Limit limit);
+
+    // id 커서 이후의 계정 id 를 limit 만큼 (일괄 작업의 다음 청크 범위)
+    @Transactional(readOnly = true)
+    @Query("select a.id from Account a where a.id > :after order by a.id")
+    List<Long> findIdsAfter(@Param("after") long after, Limit limit);
+
+    // id 범위 (after, upTo] 에서 cutoff 전에 마지막으로 로그인한 활성 계정 (로그인 기록이 없으면 제외)
+    // 같은 트랜잭션의 markDormant 가 조회한 행만 정확히 바꾸도록 잠금 (select ... for update, 원본에서)
+    @Transactional
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select new main.accountapi.model.dto.AccountResponse(a.id, a.ids, a.name, a.email, a.status) " +
+            "from Account a where a.id > :after and a.id <= :upTo and a.status = main.accountapi.model.UserStatus.ACTIVE " +
+            "and a.lastLoginAt < :cutoff order by a.id")
+    List<AccountResponse> findDormantCandidates(@Param("after") long after, @Param("upTo") long upTo, @Param("cutoff") Instant cutoff);
+
+    // 주어진 계정을 휴면으로 (그 사이 로그인했거나 상태가 바뀐 계정은 제외, version 증가)
+    @Transactional
+    @Modifying
+    @Query("update Account a set a.status = main.accountapi.model.UserStatus.DORMANT, a.version = a.version + 1 " +
+            "where a.id in :ids and a.status = main.accountapi.model.UserStatus.ACTIVE and a.lastLoginAt < :cutoff")
+    int markDormant(@Param("ids") Collection<Long> ids, @Param("cutoff") Instant cutoff);
+
+    // 전체 계정을 엔티티로 올리지 않고 한 행씩 스트리밍 (트랜잭션 안에서 사용 후 닫아야 함)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = STREAM_FETCH_SIZE))
+    @Query("select new main.accountapi.model.dto.AccountResponse(a.id, a.ids, a.name, a.email, a.status) " +
+            "from Account a order by a.id")
+    Stream<AccountResponse> streamAllAccounts();
 }
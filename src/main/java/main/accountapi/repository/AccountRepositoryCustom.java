@@ -0,0 +1,49 @@
+package main.accountapi.repository;
+
+import main.accountapi.model.UserStatus;
+import main.accountapi.model.dto.AccountCredentials;
+import main.accountapi.model.dto.AccountExportRow;
+import main.accountapi.model.dto.AccountResponse;
+import main.accountapi.model.dto.AccountSearchCursor;
+import main.accountapi.model.dto.AuthenticationResponse;
+import main.accountapi.model.entity.Account;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+// 쿼리 메소드로 만들 수 없는 동적 쿼리
+public interface AccountRepositoryCustom {
+
+    // 아이디(자연 키)로 계정 조회, 2차 캐시에 있으면 SQL 없이 반환
+    Account findAccountByIds(String ids);
+    boolean existsAccountByIds(String ids);
+
+    // 아이디(자연 키)로 로그인 인증 정보 (GET /accounts/{ids}), 로그인 확인용 정보 조회
+    // 2차 캐시에 있으면 SQL 없이, 없으면 복제본이 아닌 원본에서 읽어서 캐시에 수정 전 값을 올리지 않음
+    Optional<AuthenticationResponse> findAuthenticationByIds(String ids);
+    Optional<AccountCredentials> findCredentialsByIds(String ids);
+
+    // 수정할 계정을 2차 캐시를 거치지 않고 현재 트랜잭션(원본)에서 조회
+    // 다른 인스턴스가 바꿔서 캐시가 오래됐어도 version 비교는 원본의 값으로
+    Optional<Account> findCurrentById(long id);
+
+    // 커밋 뒤에 2차 캐시에서 계정(id)과 아이디 -> id 항목 제거
+    void evictCached(long id, String ids);
+
+    // null 이 아닌 컬럼만 수정하고 version 을 올림 (version 이 다르면 0 반환)
+    int updateFields(long id, long version, String ids, String password, String name, String email);
+
+    // 계정 id -> 마지막 로그인 시각을 JDBC 배치 update 한번으로 반영 (저장된 시각보다 이후일 때만)
+    void updateLastLoginAt(Map<Long, Instant> lastLogins);
+
+    // null 이 아닌 조건만 걸어서 커서 이후의 계정을 limit 만큼 조회 (이름, 이메일은 앞부분 일치)
+    // 이름 조건이 있으면 (name, id), 이메일 조건이 있으면 (email, id), 그 외에는 id 순 (after 가 null 이면 처음부터)
+    List<AccountResponse> searchAccounts(String namePrefix, String emailPrefix, UserStatus status,
+                                         AccountSearchCursor after, int limit);
+
+    // 모든 계정을 id 순으로 JDBC 커서에서 한 행씩 consumer 로 넘김 (엔티티, 목록을 만들지 않음, 비밀번호 해시 포함)
+    void exportAccounts(Consumer<AccountExportRow> consumer);
+}
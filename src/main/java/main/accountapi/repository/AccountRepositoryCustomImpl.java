@@ -0,0 +1,235 @@
+package main.accountapi.repository;
+
+import jakarta.persistence.Cache;
+import jakarta.persistence.CacheRetrieveMode;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.CriteriaUpdate;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import main.accountapi.model.UserStatus;
+import main.accountapi.model.dto.AccountCredentials;
+import main.accountapi.model.dto.AccountExportRow;
+import main.accountapi.model.dto.AccountResponse;
+import main.accountapi.model.dto.AccountSearchCursor;
+import main.accountapi.model.dto.AuthenticationResponse;
+import main.accountapi.model.entity.Account;
+import org.hibernate.Session;
+import org.hibernate.cache.spi.access.NaturalIdDataAccess;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.jpa.SpecHints;
+import org.hibernate.persister.entity.EntityPersister;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+public class AccountRepositoryCustomImpl implements AccountRepositoryCustom {
+
+    // like 패턴에서 입력값의 %, _ 를 글자 그대로 비교하기 위한 escape 문자
+    private static final char LIKE_ESCAPE = '\\';
+
+    private final EntityManager entityManager;
+    private final JdbcTemplate jdbcTemplate;
+
+    public AccountRepositoryCustomImpl(EntityManager entityManager, JdbcTemplate jdbcTemplate) {
+        this.entityManager = entityManager;
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    // 파생 쿼리(where ids = ?)는 매번 SQL 을 실행하므로 자연 키 조회로 2차 캐시 (account-ids -> accounts) 사용
+    @Override
+    @Transactional(readOnly = true)
+    public Account findAccountByIds(String ids) {
+        return entityManager.unwrap(Session.class).bySimpleNaturalId(Account.class).load(ids);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public boolean existsAccountByIds(String ids) {
+        return findAccountByIds(ids) != null;
+    }
+
+    // 프로젝션(select new ...)은 2차 캐시를 거치지 않으므로 자연 키로 엔티티를 읽고 필요한 값만 넘김
+    // 캐시에 없을 때 복제본에서 읽은 값이 올라가지 않게 읽기 전용이 아닌 트랜잭션 (원본)
+    @Override
+    @Transactional
+    public Optional<AuthenticationResponse> findAuthenticationByIds(String ids) {
+        return Optional.ofNullable(findAccountByIds(ids)).map(account -> new AuthenticationResponse(account.getIds(),
+                account.getPassword(), account.getName(), account.getEmail(), account.getId(), account.getVersion()));
+    }
+
+    @Override
+    @Transactional
+    public Optional<AccountCredentials> findCredentialsByIds(String ids) {
+        return Optional.ofNullable(findAccountByIds(ids)).map(account -> new AccountCredentials(account.getId(),
+                account.getIds(), account.getPassword(), account.getName(), account.getEmail(), account.getStatus()));
+    }
+
+    @Override
+    @Transactional
+    public Optional<Account> findCurrentById(long id) {
+        return Optional.ofNullable(entityManager.find(Account.class, id,
+                Map.of(SpecHints.HINT_SPEC_CACHE_RETRIEVE_MODE, CacheRetrieveMode.BYPASS)));
+    }
+
+    // 자연 키 항목은 키를 만들 때 세션이 필요해서 커넥션을 쓰지 않는 세션을 잠깐 엶
+    @Override
+    public void evictCached(long id, String ids) {
+        SessionFactoryImplementor sessionFactory = entityManager.getEntityManagerFactory().unwrap(SessionFactoryImplementor.class);
+        sessionFactory.getCache().evictEntityData(Account.class, id);
+        if (ids == null) {
+            return;
+        }
+        EntityPersister persister = sessionFactory.getMappingMetamodel().getEntityDescriptor(Account.class);
+        NaturalIdDataAccess naturalIds = persister.getNaturalIdCacheAccessStrategy();
+        try (SessionImplementor session = sessionFactory.openSession()) {
+            naturalIds.evict(naturalIds.generateCacheKey(ids, persister, session));
+        }
+    }
+
+    // 엔티티를 읽지 않고 바뀐 컬럼만 update 한번 (where id = ? and version = ?)
+    @Override
+    @Transactional
+    public int updateFields(long id, long version, String ids, String password, String name, String email) {
+        CriteriaBuilder builder = entityManager.getCriteriaBuilder();
+        CriteriaUpdate<Account> update = builder.createCriteriaUpdate(Account.class);
+        Root<Account> account = update.from(Account.class);
+
+        if (ids != null) {
+            update.set(account.<String>get("ids"), ids);
+        }
+        if (password != null) {
+            update.set(account.<String>get("password"), password);
+        }
+        if (name != null) {
+            update.set(account.<String>get("name"), name);
+        }
+        if (email != null) {
+            update.set(account.<String>get("email"), email);
+        }
+        update.set(account.<Long>get("version"), builder.sum(account.<Long>get("version"), 1L));
+        update.where(builder.equal(account.get("id"), id), builder.equal(account.get("version"), version));
+
+        return entityManager.createQuery(update).executeUpdate();
+    }
+
+    // 엔티티와 버전은 건드리지 않고 last_login_at 컬럼만 update
+    // JDBC 로 바로 바꾸므로 Hibernate 가 모르는 변경, 2차 캐시의 엔티티는 직접 제거
+    @Override
+    @Transactional
+    public void updateLastLoginAt(Map<Long, Instant> lastLogins) {
+        List<Object[]> batchArgs = new ArrayList<>(lastLogins.size());
+        lastLogins.forEach((id, loginAt) -> {
+            OffsetDateTime at = loginAt.atOffset(ZoneOffset.UTC);
+            batchArgs.add(new Object[]{at, id, at});
+        });
+        jdbcTemplate.batchUpdate("update users set last_login_at = ? " +
+                "where id = ? and (last_login_at is null or last_login_at < ?)", batchArgs);
+
+        Cache cache = entityManager.getEntityManagerFactory().getCache();
+        lastLogins.keySet().forEach(id -> cache.evict(Account.class, id));
+    }
+
+    // 조건마다 인덱스를 탈 수 있게 앞부분 일치만 사용 (or 로 묶지 않고 있는 조건만 and)
+    // 앞부분 검색은 그 컬럼 순으로 정렬해야 인덱스 범위를 정렬된 채로 읽음 (id 순이면 기본키를 처음부터 훑음)
+    @Override
+    @Transactional(readOnly = true)
+    public List<AccountResponse> searchAccounts(String namePrefix, String emailPrefix, UserStatus status,
+                                                AccountSearchCursor after, int limit) {
+        CriteriaBuilder builder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<AccountResponse> query = builder.createQuery(AccountResponse.class);
+        Root<Account> account = query.from(Account.class);
+        Path<Long> id = account.get("id");
+        Path<String> sortKey = namePrefix != null ? account.get("name") : emailPrefix != null ? account.get("email") : null;
+
+        List<Predicate> predicates = new ArrayList<>();
+        if (namePrefix != null) {
+            addPrefix(builder, predicates, account.get("name"), namePrefix);
+        }
+        if (emailPrefix != null) {
+            addPrefix(builder, predicates, account.get("email"), emailPrefix);
+        }
+        if (status != null) {
+            predicates.add(builder.equal(account.get("status"), status));
+        }
+        if (after != null) {
+            if (sortKey == null) {
+                predicates.add(builder.greaterThan(id, after.id()));
+            } else {
+                // (key, id) > (:key, :id), 앞의 key >= :key 는 인덱스 범위로 사용
+                predicates.add(builder.greaterThanOrEqualTo(sortKey, after.key()));
+                predicates.add(builder.or(builder.greaterThan(sortKey, after.key()), builder.greaterThan(id, after.id())));
+            }
+        }
+
+        query.select(builder.construct(AccountResponse.class, id, account.get("ids"),
+                        account.get("name"), account.get("email"), account.get("status")))
+                .where(predicates.toArray(Predicate[]::new))
+                .orderBy(sortKey == null ? List.of(builder.asc(id)) : List.of(builder.asc(sortKey), builder.asc(id)));
+
+        return entityManager.createQuery(query).setMaxResults(limit).getResultList();
+    }
+
+    // 한 행씩 읽어서 바로 넘기므로 메모리는 계정 수와 상관없이 일정 (fetch size 만큼만 드라이버가 받아둠)
+    // 읽기 전용 트랜잭션 안에서 커넥션을 끝까지 잡고 있음 (MySQL 은 useCursorFetch=true 여야 fetch size 로 나눠 받음)
+    @Override
+    @Transactional(readOnly = true)
+    public void exportAccounts(Consumer<AccountExportRow> consumer) {
+        jdbcTemplate.query(connection -> {
+            PreparedStatement statement = connection.prepareStatement(
+                    "select ids, password, name, email, status, last_login_at from users order by id",
+                    ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            statement.setFetchSize(Integer.parseInt(AccountRepository.STREAM_FETCH_SIZE));
+            return statement;
+        }, (ResultSet resultSet) -> {
+            String status = resultSet.getString("status");
+            OffsetDateTime lastLoginAt = resultSet.getObject("last_login_at", OffsetDateTime.class);
+            consumer.accept(new AccountExportRow(resultSet.getString("ids"), resultSet.getString("password"),
+                    resultSet.getString("name"), resultSet.getString("email"),
+                    status == null ? null : UserStatus.valueOf(status),
+                    lastLoginAt == null ? null : lastLoginAt.toInstant()));
+        });
+    }
+
+    // like ? 는 바인딩된 값을 모르는 실행 계획에서 인덱스 범위로 못 바꾸므로 범위 조건을 같이 걸어줌
+    // name >= 'kim' and name < 'kin' 으로 인덱스 범위를 읽고, like 'kim%' 로 정확히 거름
+    private static void addPrefix(CriteriaBuilder builder, List<Predicate> predicates, Path<String> column, String prefix) {
+        predicates.add(builder.greaterThanOrEqualTo(column, prefix));
+        String upperBound = prefixUpperBound(prefix);
+        if (upperBound != null) {
+            predicates.add(builder.lessThan(column, upperBound));
+        }
+        predicates.add(builder.like(column, escapeLike(prefix) + "%", LIKE_ESCAPE));
+    }
+
+    // 앞부분이 prefix 인 문자열보다 큰 가장 작은 문자열 (마지막 글자를 하나 올림, 올릴 수 없으면 null)
+    private static String prefixUpperBound(String prefix) {
+        StringBuilder upper = new StringBuilder(prefix);
+        while (!upper.isEmpty()) {
+            char last = upper.charAt(upper.length() - 1);
+            if (last != Character.MAX_VALUE) {
+                upper.setCharAt(upper.length() - 1, (char) (last + 1));
+                return upper.toString();
+            }
+            upper.setLength(upper.length() - 1);
+        }
+        return null;
+    }
+
+    private static String escapeLike(String value) {
+        return value.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+}
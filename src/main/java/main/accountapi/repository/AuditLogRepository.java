@@ -0,0 +1,7 @@
+package main.accountapi.repository;
+
+import main.accountapi.model.entity.AuditLog;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface AuditLogRepository extends JpaRepository<AuditLog, Long>, AuditLogRepositoryCustom {
+}
@@ -0,0 +1,11 @@
+package main.accountapi.repository;
+
+import main.accountapi.model.dto.AuditEvent;
+
+import java.util.List;
+
+public interface AuditLogRepositoryCustom {
+
+    // 감사 기록을 JDBC 배치 insert 로 한번에 저장 (한 트랜잭션)
+    void insertAll(List<AuditEvent> events);
+}
@@ -0,0 +1,31 @@
+package main.accountapi.repository;
+
+import main.accountapi.model.dto.AuditEvent;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+
+public class AuditLogRepositoryCustomImpl implements AuditLogRepositoryCustom {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public AuditLogRepositoryCustomImpl(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    // 엔티티를 거치지 않고 바로 insert (영속성 컨텍스트, id 조회 없이 배치 하나)
+    @Override
+    @Transactional
+    public void insertAll(List<AuditEvent> events) {
+        List<Object[]> batchArgs = new ArrayList<>(events.size());
+        for (AuditEvent event : events) {
+            batchArgs.add(new Object[]{event.action().name(), event.accountId(), event.ids(), event.success(),
+                    event.occurredAt().atOffset(ZoneOffset.UTC)});
+        }
+        jdbcTemplate.batchUpdate("insert into audit_log (action, account_id, ids, success, occurred_at) " +
+                "values (?, ?, ?, ?, ?)", batchArgs);
+    }
+}
@@ -0,0 +1,7 @@
+package main.accountapi.repository;
+
+import main.accountapi.model.entity.SweepCheckpoint;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface SweepCheckpointRepository extends JpaRepository<SweepCheckpoint, String> {
+}
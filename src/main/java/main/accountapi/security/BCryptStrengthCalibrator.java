@@ -0,0 +1,49 @@
+package main.accountapi.security;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.time.Duration;
+
+// 서버 성능에 맞춰 해시 한번이 목표 시간 안에 끝나는 가장 높은 BCrypt 강도를 찾는다
+public final class BCryptStrengthCalibrator {
+
+    private static final Logger log = LoggerFactory.getLogger(BCryptStrengthCalibrator.class);
+
+    private static final String SAMPLE_PASSWORD = "calibration-password";
+
+    private BCryptStrengthCalibrator() {
+    }
+
+    public static int calibrate(Duration targetHashTime, int minStrength, int maxStrength) {
+        // JIT 워밍업
+        new BCryptPasswordEncoder(minStrength).encode(SAMPLE_PASSWORD);
+
+        int strength = minStrength;
+        // 강도가 1 오를 때마다 시간이 두배가 되므로 목표를 넘는 순간 멈춘다
+        for (int candidate = minStrength; candidate <= maxStrength; candidate++) {
+            Duration elapsed = measure(candidate);
+            if (elapsed.compareTo(targetHashTime) > 0) {
+                log.info("BCrypt strength {} took {} ms, over target {} ms", candidate, elapsed.toMillis(), targetHashTime.toMillis());
+                break;
+            }
+            strength = candidate;
+        }
+
+        log.info("BCrypt strength calibrated to {} (target {} ms)", strength, targetHashTime.toMillis());
+        return strength;
+    }
+
+    // 두번 재서 빠른 쪽 (GC 등 잡음 제거)
+    private static Duration measure(int strength) {
+        BCryptPasswordEncoder encoder = new BCryptPasswordEncoder(strength);
+        long best = Long.MAX_VALUE;
+        for (int i = 0; i < 2; i++) {
+            long start = System.nanoTime();
+            encoder.encode(SAMPLE_PASSWORD);
+            best = Math.min(best, System.nanoTime() - start);
+        }
+        return Duration.ofNanos(best);
+    }
+}
@@ -0,0 +1,140 @@
+package main.accountapi.security;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import main.accountapi.config.PasswordHashingProperties;
+import main.accountapi.exception.PasswordHashingBusyException;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// 해싱(encode/matches)을 요청 스레드가 아닌 크기가 정해진 전용 스레드풀에서 실행하는 PasswordEncoder
+// 대기열이 가득 차면 기다리지 않고 PasswordHashingBusyException(503) 을 던진다
+public class BoundedPasswordEncoder implements PasswordEncoder, AutoCloseable {
+
+    private final PasswordEncoder delegate;
+    private final ThreadPoolExecutor executor;
+    private final Timer encodeTimer;
+    private final Timer matchesTimer;
+    private final Timer waitTimer;
+    private final Counter rejectedCounter;
+
+    public BoundedPasswordEncoder(PasswordEncoder delegate, PasswordHashingProperties properties, MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+
+        int threads = properties.resolvedThreads();
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(properties.queueCapacity()),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "password-hashing-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+
+        this.encodeTimer = Timer.builder("account.password.hashing")
+                .tag("operation", "encode")
+                .register(meterRegistry);
+        this.matchesTimer = Timer.builder("account.password.hashing")
+                .tag("operation", "matches")
+                .register(meterRegistry);
+        this.waitTimer = Timer.builder("account.password.hashing.wait")
+                .register(meterRegistry);
+        this.rejectedCounter = Counter.builder("account.password.hashing.rejected")
+                .register(meterRegistry);
+        Gauge.builder("account.password.hashing.queue", executor, pool -> pool.getQueue().size())
+                .register(meterRegistry);
+        Gauge.builder("account.password.hashing.active", executor, ThreadPoolExecutor::getActiveCount)
+                .register(meterRegistry);
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return execute(() -> encodeTimer.recordCallable(() -> delegate.encode(rawPassword)));
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return execute(() -> matchesTimer.recordCallable(() -> delegate.matches(rawPassword, encodedPassword)));
+    }
+
+    // 여러 비밀번호를 해싱 스레드풀에 바로 넘기고 요청 스레드에서 순서대로 결과를 모음 (일괄 가입)
+    // 한 요청이 대기열을 다 차지하지 않게 한번에 넘기는 수는 스레드 수까지, 대기열이 가득 차면 넘긴 해싱은 취소하고 PasswordHashingBusyException
+    public List<String> encodeAll(List<? extends CharSequence> rawPasswords) {
+        List<String> encoded = new ArrayList<>(rawPasswords.size());
+        Deque<Future<String>> inFlight = new ArrayDeque<>();
+        try {
+            for (CharSequence rawPassword : rawPasswords) {
+                if (inFlight.size() >= executor.getMaximumPoolSize()) {
+                    encoded.add(await(inFlight.poll()));
+                }
+                inFlight.add(submit(() -> encodeTimer.recordCallable(() -> delegate.encode(rawPassword))));
+            }
+            while (!inFlight.isEmpty()) {
+                encoded.add(await(inFlight.poll()));
+            }
+        } catch (RuntimeException e) {
+            inFlight.forEach(future -> future.cancel(true));
+            throw e;
+        }
+        return encoded;
+    }
+
+    // 해시 문자열만 보고 판단하므로 요청 스레드에서 바로 실행
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        return delegate.upgradeEncoding(encodedPassword);
+    }
+
+    private <T> T execute(Callable<T> task) {
+        return await(submit(task));
+    }
+
+    private <T> Future<T> submit(Callable<T> task) {
+        long submittedAt = System.nanoTime();
+        try {
+            return executor.submit(() -> {
+                // 대기열에서 기다린 시간 (해싱 시간과 분리해서 기록)
+                waitTimer.record(System.nanoTime() - submittedAt, TimeUnit.NANOSECONDS);
+                return task.call();
+            });
+        } catch (RejectedExecutionException e) {
+            rejectedCounter.increment();
+            throw new PasswordHashingBusyException();
+        }
+    }
+
+    private <T> T await(Future<T> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("비밀번호 처리 중 인터럽트되었습니다.", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    @Override
+    public void close() {
+        executor.shutdown();
+    }
+}
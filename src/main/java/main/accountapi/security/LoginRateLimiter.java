@@ -0,0 +1,108 @@
+package main.accountapi.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import main.accountapi.config.LoginThrottleProperties;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+// 아이디별, 접속 주소별 로그인 시도 제한 (토큰 버킷, 락 없이 CAS 로 갱신)
+// 비밀번호 해싱이나 DB 조회 전에 호출해서 제한을 넘은 시도는 바로 거절한다
+// 버킷은 Caffeine 에 최대 maxKeys 개까지만 두고, idleTimeout 동안 시도가 없으면 제거
+public class LoginRateLimiter {
+
+    private final boolean enabled;
+    private final Limit idsLimit;
+    private final Limit addressLimit;
+    private final LongSupplier nanoTime;
+
+    public LoginRateLimiter(LoginThrottleProperties properties, MeterRegistry meterRegistry) {
+        this(properties, meterRegistry, System::nanoTime);
+    }
+
+    LoginRateLimiter(LoginThrottleProperties properties, MeterRegistry meterRegistry, LongSupplier nanoTime) {
+        this.enabled = properties.enabled();
+        this.nanoTime = nanoTime;
+        this.idsLimit = new Limit("ids", properties.idsCapacity(), properties.idsPeriod(), properties, meterRegistry);
+        this.addressLimit = new Limit("address", properties.addressCapacity(), properties.addressPeriod(), properties, meterRegistry);
+    }
+
+    // 시도할 수 있으면 Duration.ZERO, 아니면 다시 시도할 수 있을 때까지 남은 시간
+    public Duration acquire(String ids, String address) {
+        if (!enabled) {
+            return Duration.ZERO;
+        }
+        long now = nanoTime.getAsLong();
+
+        // 주소 제한에 걸리면 아이디 버킷은 건드리지 않음
+        long waitNanos = addressLimit.acquire(address, now);
+        if (waitNanos == 0) {
+            waitNanos = idsLimit.acquire(ids, now);
+        }
+        return Duration.ofNanos(waitNanos);
+    }
+
+    private static final class Limit {
+
+        private final long intervalNanos; // 토큰 하나가 회복되는 시간
+        private final long burstNanos; // 몰아서 쓸 수 있는 만큼의 시간 (capacity - 1 개)
+        private final Cache<String, Bucket> buckets;
+        private final Counter throttledCounter;
+
+        Limit(String key, int capacity, Duration period, LoginThrottleProperties properties, MeterRegistry meterRegistry) {
+            this.intervalNanos = period.toNanos() / capacity;
+            this.burstNanos = intervalNanos * (capacity - 1);
+            this.buckets = Caffeine.newBuilder()
+                    .maximumSize(properties.maxKeys())
+                    .expireAfterAccess(properties.idleTimeout())
+                    .build();
+
+            this.throttledCounter = Counter.builder("account.login.throttled")
+                    .tag("key", key)
+                    .register(meterRegistry);
+            Gauge.builder("account.login.throttle.keys", buckets, Cache::estimatedSize)
+                    .tag("key", key)
+                    .register(meterRegistry);
+        }
+
+        long acquire(String key, long now) {
+            if (key == null) {
+                return 0;
+            }
+            long waitNanos = buckets.get(key, k -> new Bucket(now)).acquire(now, intervalNanos, burstNanos);
+            if (waitNanos > 0) {
+                throttledCounter.increment();
+            }
+            return waitNanos;
+        }
+    }
+
+    // 다음 토큰이 생기는 이론상 시각 하나만 저장 (GCRA), 시각이 now + burst 를 넘으면 토큰이 없는 상태
+    private static final class Bucket {
+
+        private final AtomicLong theoreticalArrival;
+
+        Bucket(long now) {
+            this.theoreticalArrival = new AtomicLong(now);
+        }
+
+        long acquire(long now, long intervalNanos, long burstNanos) {
+            while (true) {
+                long arrival = theoreticalArrival.get();
+                long start = arrival - now > 0 ? arrival : now;
+                long waitNanos = start - now - burstNanos;
+                if (waitNanos > 0) {
+                    return waitNanos;
+                }
+                if (theoreticalArrival.compareAndSet(arrival, start + intervalNanos)) {
+                    return 0;
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,185 @@
+package main.accountapi.service;
+
+import main.accountapi.config.AccountChangeProperties;
+import main.accountapi.model.dto.AccountChangePageResponse;
+import main.accountapi.model.dto.AccountChangeResponse;
+import main.accountapi.repository.AccountChangeRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+// 계정 변경 피드: id 커서로 페이지 조회, SSE 로 계속 받기, 오래된 변경 압축/삭제
+// 커밋 순서와 id 순서가 살짝 어긋날 수 있어서 settleDelay 보다 최근 변경부터는 다음 조회로 미룸
+// SSE 전송은 구독자마다 가상 스레드에서 (느린 구독자가 다른 주기 작업과 나눠 쓰는 스케줄러 스레드를 막지 않게)
+@Component
+public class AccountChangeFeed implements AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(AccountChangeFeed.class);
+
+    private final AccountChangeRepository changeRepository;
+    private final AccountChangeProperties properties;
+    private final List<Subscriber> subscribers = new CopyOnWriteArrayList<>();
+    private final ExecutorService sender = Executors.newThreadPerTaskExecutor(
+            Thread.ofVirtual().name("account-change-send-", 0).factory());
+
+    public AccountChangeFeed(AccountChangeRepository changeRepository, AccountChangeProperties properties) {
+        this.changeRepository = changeRepository;
+        this.properties = properties;
+    }
+
+    // after 커서 이후의 변경을 size 개까지
+    public AccountChangePageResponse getChangesAfter(long after, Integer size) {
+        int pageSize = size == null ? properties.defaultSize() : Math.min(Math.max(size, 1), properties.maxSize());
+        List<AccountChangeResponse> changes = findSettledChangesAfter(after, pageSize, Instant.now());
+        long nextCursor = changes.isEmpty() ? after : changes.get(changes.size() - 1).id();
+        return new AccountChangePageResponse(changes, nextCursor);
+    }
+
+    // after 커서 이후의 변경을 SSE 로 계속 보냄 (이벤트 id 가 커서)
+    public SseEmitter subscribe(long after) {
+        return subscribe(new SseEmitter(properties.streamTimeout().toMillis()), after);
+    }
+
+    SseEmitter subscribe(SseEmitter emitter, long after) {
+        Subscriber subscriber = new Subscriber(emitter, after);
+        emitter.onCompletion(() -> subscribers.remove(subscriber));
+        emitter.onTimeout(() -> subscribers.remove(subscriber));
+        emitter.onError(e -> subscribers.remove(subscriber));
+        subscribers.add(subscriber);
+        return emitter;
+    }
+
+    // 구독자들의 커서 중 가장 뒤쳐진 곳부터 한번만 읽어서 각자 커서 이후 변경만 넘김 (전송을 기다리지 않음)
+    @Scheduled(fixedDelayString = "${account.changes.poll-interval:1s}")
+    public void publish() {
+        if (subscribers.isEmpty()) {
+            return;
+        }
+        Instant now = Instant.now();
+        long after = subscribers.stream().mapToLong(subscriber -> subscriber.cursor).min().orElse(0L);
+
+        while (true) {
+            List<AccountChangeResponse> changes = findSettledChangesAfter(after, properties.maxSize(), now);
+            if (changes.isEmpty()) {
+                return;
+            }
+            for (Subscriber subscriber : subscribers) {
+                subscriber.enqueue(changes);
+            }
+            if (changes.size() < properties.maxSize()) {
+                return;
+            }
+            after = changes.get(changes.size() - 1).id();
+        }
+    }
+
+    // compactAfter 보다 오래된 변경은 계정마다 최신 것과 아이디 변경만 남기고, retention 보다 오래된 변경은 삭제
+    @Scheduled(cron = "${account.changes.compaction-cron:0 */10 * * * *}")
+    public void compact() {
+        Instant now = Instant.now();
+        int deleted = changeRepository.deleteChangedBefore(now.minus(properties.retention()));
+
+        Instant compactBefore = now.minus(properties.compactAfter());
+        List<Long> superseded;
+        do {
+            superseded = changeRepository.findSupersededIds(compactBefore, Limit.of(properties.compactionChunkSize()));
+            changeRepository.deleteAllByIdInBatch(superseded);
+            deleted += superseded.size();
+        } while (superseded.size() == properties.compactionChunkSize());
+
+        if (deleted > 0) {
+            log.info("Account change feed compacted: {} changes deleted", deleted);
+        }
+    }
+
+    // 아직 커밋 중일 수 있는 최근 변경을 만나면 거기서 멈춤 (그 뒤 id 를 먼저 내보내면 앞의 변경을 건너뛸 수 있음)
+    // 변경을 기록하는 트랜잭션은 transactionTimeout (< settleDelay) 안에 커밋되거나 롤백되므로 settleDelay 가 지난 변경 앞에는 빈 id 가 생기지 않음
+    private List<AccountChangeResponse> findSettledChangesAfter(long after, int limit, Instant now) {
+        Instant settledBefore = now.minus(properties.settleDelay());
+        List<AccountChangeResponse> settled = new ArrayList<>();
+        for (AccountChangeResponse change : changeRepository.findChangesAfter(after, Limit.of(limit))) {
+            if (change.changedAt().isAfter(settledBefore)) {
+                break;
+            }
+            settled.add(change);
+        }
+        return settled;
+    }
+
+    @Override
+    public void close() {
+        sender.shutdownNow();
+    }
+
+    // 구독자마다 보낼 변경을 subscriberBuffer 개까지 쌓아두고 한 스레드가 순서대로 보냄
+    private final class Subscriber {
+
+        private final SseEmitter emitter;
+        private final BlockingQueue<AccountChangeResponse> pending = new ArrayBlockingQueue<>(properties.subscriberBuffer());
+        private final AtomicBoolean sending = new AtomicBoolean();
+        // 대기열에 넣은 마지막 변경 id (다음 조회는 여기서부터)
+        private volatile long cursor;
+
+        Subscriber(SseEmitter emitter, long cursor) {
+            this.emitter = emitter;
+            this.cursor = cursor;
+        }
+
+        void enqueue(List<AccountChangeResponse> changes) {
+            for (AccountChangeResponse change : changes) {
+                if (change.id() <= cursor) {
+                    continue;
+                }
+                if (!pending.offer(change)) {
+                    // 너무 뒤쳐진 구독자는 연결을 끊음 (다시 연결하면 Last-Event-ID 부터 이어받음)
+                    log.warn("Account change subscriber fell {} changes behind, disconnecting", pending.size());
+                    subscribers.remove(this);
+                    emitter.complete();
+                    return;
+                }
+                cursor = change.id();
+            }
+            if (sending.compareAndSet(false, true)) {
+                sender.execute(this::sendPending);
+            }
+        }
+
+        private void sendPending() {
+            try {
+                while (true) {
+                    AccountChangeResponse change = pending.poll();
+                    if (change == null) {
+                        sending.set(false);
+                        // 멈추는 사이에 들어온 변경이 있으면 다시 보냄
+                        if (pending.isEmpty() || !sending.compareAndSet(false, true)) {
+                            return;
+                        }
+                        continue;
+                    }
+                    emitter.send(SseEmitter.event()
+                            .id(String.valueOf(change.id()))
+                            .name(change.type().name())
+                            .data(change));
+                }
+            } catch (IOException | IllegalStateException e) {
+                // 연결이 끊긴 구독자는 제거 (다시 연결하면 Last-Event-ID 부터 이어받음)
+                subscribers.remove(this);
+                emitter.completeWithError(e);
+            }
+        }
+    }
+}
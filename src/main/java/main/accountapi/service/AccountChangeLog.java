@@ -0,0 +1,38 @@
+package main.accountapi.service;
+
+import main.accountapi.model.AccountChangeType;
+import main.accountapi.model.dto.AccountResponse;
+import main.accountapi.model.entity.AccountChange;
+import main.accountapi.repository.AccountChangeRepository;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.List;
+
+// 계정 변경 기록 (outbox), 변경과 같이 커밋되도록 반드시 계정을 바꾸는 트랜잭션 안에서 호출
+// 그 트랜잭션은 account.changes.transaction-timeout 을 걸어야 함 (settle-delay 안에 커밋되지 않으면 피드가 건너뜀)
+@Component
+public class AccountChangeLog {
+
+    private final AccountChangeRepository changeRepository;
+
+    public AccountChangeLog(AccountChangeRepository changeRepository) {
+        this.changeRepository = changeRepository;
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void record(AccountChangeType type, long accountId, String ids, String previousIds) {
+        changeRepository.insertAll(List.of(new AccountChange(0L, accountId, ids, previousIds, type, Instant.now())));
+    }
+
+    // 여러 계정의 같은 종류 변경을 한번에 기록
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordAll(AccountChangeType type, List<AccountResponse> accounts) {
+        Instant now = Instant.now();
+        changeRepository.insertAll(accounts.stream()
+                .map(account -> new AccountChange(0L, account.id(), account.ids(), null, type, now))
+                .toList());
+    }
+}
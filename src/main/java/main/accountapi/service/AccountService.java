@@ -1,29 +1,67 @@
 package main.accountapi.service;
+import main.accountapi.model.dto.AccountExportRow;
+import main.accountapi.model.dto.AccountImportProgress;
+import main.accountapi.model.dto.AccountLookupResponse;
+import main.accountapi.model.dto.AccountPageResponse;
+import main.accountapi.model.dto.AccountPatchRequest;
 import main.accountapi.model.dto.AccountResponse;
+import main.accountapi.model.dto.AccountSearchResponse;
+import main.accountapi.model.dto.AccountsVersion;
 import main.accountapi.model.dto.AuthenticationResponse;
+import main.accountapi.model.dto.BulkRegisterResponse;
 import main.accountapi.model.dto.LoginRequest;
 import main.accountapi.model.dto.RegisterRequest;
 import main.accountapi.model.UserStatus;
 
+import java.util.Iterator;
 import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
 
 public interface AccountService {
 
     // 회원가입
     AccountResponse register(RegisterRequest request);
 
-    // 로그인
-    AccountResponse login(LoginRequest request);
+    // 일괄 회원가입
+    BulkRegisterResponse registerAll(List<RegisterRequest> requests);
+
+    // 로그인 (아이디가 없거나 비밀번호가 틀리면 빈 값)
+    Optional<AccountResponse> login(LoginRequest request);
 
     // 모든 멤버들 불러오기
     List<AccountResponse> getAllAccounts();
 
+    // 전체 멤버 목록의 버전 (ETag)
+    AccountsVersion getAccountsVersion();
+
+    // id 커서 이후의 멤버들을 페이지 단위로 불러오기
+    AccountPageResponse getAccountsAfter(long after, Integer size);
+
+    // 이름, 이메일 앞부분과 상태로 멤버 검색 (null 이거나 빈 조건은 무시, 커서 이후 페이지 단위)
+    AccountSearchResponse searchAccounts(String name, String email, UserStatus status, String cursor, Integer size);
+
+    // 모든 멤버들을 한 명씩 consumer 로 흘려보내기
+    void streamAllAccounts(Consumer<AccountResponse> consumer);
+
+    // 모든 계정을 비밀번호 해시까지 한 명씩 consumer 로 흘려보내기 (내보내기)
+    void exportAccounts(Consumer<AccountExportRow> consumer);
+
+    // 내보낸 계정을 청크 단위로 가입시키고 청크마다 커밋한 결과를 progress 로 전달 (비밀번호 해시는 그대로 저장)
+    void importAccounts(Iterator<AccountExportRow> rows, Consumer<AccountImportProgress> progress);
+
     // 아이디로 유저정보 조회
     AccountResponse getAccountByIds(String ids);
 
+    // 여러 아이디로 유저정보 한번에 조회
+    AccountLookupResponse lookupAccounts(List<String> ids);
+
     // 회원정보 수정
     AccountResponse updateAccount(long id, RegisterRequest request);
 
+    // 회원정보 부분 수정 (바뀐 version 반환)
+    long patchAccount(long id, AccountPatchRequest request);
+
     // 회원상태 변경
     AccountResponse updateStatus(long id, UserStatus status);
 
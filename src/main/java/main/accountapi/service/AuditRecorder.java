@@ -0,0 +1,184 @@
+package main.accountapi.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import main.accountapi.config.AuditProperties;
+import main.accountapi.model.AuditAction;
+import main.accountapi.model.dto.AuditEvent;
+import main.accountapi.model.entity.AuditLog;
+import main.accountapi.repository.AuditLogRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import java.util.concurrent.locks.ReentrantLock;
+
+// 감사 기록을 요청마다 insert 하지 않고 링 버퍼에 넣어뒀다가 모아서 JDBC 배치 insert
+// 요청 스레드는 버퍼에 넣기만 하고 (DB 접근 없음), flushInterval 마다, 또는 batchSize 개가 모이면, 종료할 때 저장
+// 버퍼가 차면 backpressure 설정에 따라 버리거나(DROP), 기다리거나(BLOCK), 일부만 기록(SAMPLE)
+@Component
+public class AuditRecorder implements AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(AuditRecorder.class);
+
+    private final AuditLogRepository auditLogRepository;
+    private final TaskScheduler taskScheduler;
+    private final AuditProperties properties;
+
+    private final RingBuffer<AuditEvent> buffer;
+    private final ReentrantLock flushLock = new ReentrantLock();
+    private final AtomicBoolean flushRequested = new AtomicBoolean();
+    private final AtomicLong sampleSequence = new AtomicLong();
+
+    // 버퍼에서 꺼냈지만 아직 저장하지 못한 기록 (flushLock 안에서만 사용, 실패하면 다음에 다시 시도)
+    private final List<AuditEvent> pending = new ArrayList<>();
+
+    private final Counter writtenCounter;
+    private final Counter droppedFullCounter;
+    private final Counter droppedSampledCounter;
+    private final Counter droppedRejectedCounter;
+    private final Timer lagTimer;
+
+    public AuditRecorder(AuditLogRepository auditLogRepository, TaskScheduler taskScheduler,
+                         AuditProperties properties, MeterRegistry meterRegistry) {
+        this.auditLogRepository = auditLogRepository;
+        this.taskScheduler = taskScheduler;
+        this.properties = properties;
+        this.buffer = new RingBuffer<>(properties.capacity());
+
+        this.writtenCounter = Counter.builder("account.audit.written")
+                .register(meterRegistry);
+        this.droppedFullCounter = Counter.builder("account.audit.dropped")
+                .tag("reason", "full")
+                .register(meterRegistry);
+        this.droppedSampledCounter = Counter.builder("account.audit.dropped")
+                .tag("reason", "sampled")
+                .register(meterRegistry);
+        this.droppedRejectedCounter = Counter.builder("account.audit.dropped")
+                .tag("reason", "rejected")
+                .register(meterRegistry);
+        this.lagTimer = Timer.builder("account.audit.lag")
+                .register(meterRegistry);
+        Gauge.builder("account.audit.buffer", buffer, RingBuffer::size)
+                .register(meterRegistry);
+    }
+
+    // 로그인, 계정 변경 후 호출 (버퍼에 넣기만 함), 아이디는 검증 전 입력일 수 있어서 컬럼 길이로 자름
+    public void record(AuditAction action, Long accountId, String ids, boolean success) {
+        if (ids != null && ids.length() > AuditLog.IDS_LENGTH) {
+            ids = ids.substring(0, AuditLog.IDS_LENGTH);
+        }
+        AuditEvent event = new AuditEvent(action, accountId, ids, success, Instant.now());
+        boolean accepted = switch (properties.backpressure()) {
+            case DROP -> buffer.offer(event);
+            case BLOCK -> offerWaiting(event);
+            case SAMPLE -> {
+                // 절반 넘게 차면 sampleRate 개 중 하나만 넣음
+                if (buffer.size() >= buffer.capacity() / 2
+                        && sampleSequence.getAndIncrement() % properties.sampleRate() != 0) {
+                    droppedSampledCounter.increment();
+                    yield true;
+                }
+                yield buffer.offer(event);
+            }
+        };
+        if (!accepted) {
+            droppedFullCounter.increment();
+        }
+
+        if (buffer.size() >= properties.batchSize()) {
+            requestFlush();
+        }
+    }
+
+    // 자리가 날 때까지 저장을 재촉하면서 blockTimeout 동안 기다림
+    private boolean offerWaiting(AuditEvent event) {
+        long deadline = System.nanoTime() + properties.blockTimeout().toNanos();
+        while (!buffer.offer(event)) {
+            if (System.nanoTime() - deadline >= 0 || Thread.currentThread().isInterrupted()) {
+                return false;
+            }
+            requestFlush();
+            LockSupport.parkNanos(TimeUnit.MICROSECONDS.toNanos(100));
+        }
+        return true;
+    }
+
+    private void requestFlush() {
+        if (flushRequested.compareAndSet(false, true)) {
+            taskScheduler.schedule(this::flush, Instant.now());
+        }
+    }
+
+    // 지금 버퍼에 있는 기록을 batchSize 개씩 저장 (동시에 한번만 실행, 저장하는 동안 새로 들어온 기록은 다음 차례)
+    @Scheduled(fixedDelayString = "${account.audit.flush-interval:1s}")
+    public void flush() {
+        flushLock.lock();
+        try {
+            flushRequested.set(false);
+            int remaining = pending.size() + buffer.size();
+            while (remaining > 0) {
+                if (pending.isEmpty() && buffer.drainTo(pending, properties.batchSize()) == 0) {
+                    return;
+                }
+                // 실패하면 pending 에 그대로 남아서 다음 주기에 다시 시도
+                // 제약 조건 위반은 다시 해도 실패하므로 한 건씩 나눠서 저장하고 거부된 기록만 버림
+                remaining -= pending.size();
+                try {
+                    auditLogRepository.insertAll(pending);
+                    written(pending);
+                    pending.clear();
+                } catch (DataIntegrityViolationException e) {
+                    insertEach();
+                }
+            }
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    // 한 건씩 저장 (저장한 기록은 pending 에서 빼서 DB 연결 오류로 멈춰도 다음에 다시 넣지 않음)
+    private void insertEach() {
+        for (Iterator<AuditEvent> events = pending.iterator(); events.hasNext(); ) {
+            AuditEvent event = events.next();
+            try {
+                auditLogRepository.insertAll(List.of(event));
+                written(List.of(event));
+            } catch (DataIntegrityViolationException e) {
+                droppedRejectedCounter.increment();
+                log.warn("저장할 수 없는 감사 기록을 버립니다: {}", event, e);
+            }
+            events.remove();
+        }
+    }
+
+    private void written(List<AuditEvent> events) {
+        Instant writtenAt = Instant.now();
+        for (AuditEvent event : events) {
+            lagTimer.record(Duration.between(event.occurredAt(), writtenAt));
+        }
+        writtenCounter.increment(events.size());
+    }
+
+    // 종료할 때 남은 기록 저장
+    @Override
+    public void close() {
+        while (!pending.isEmpty() || buffer.size() > 0) {
+            flush();
+        }
+    }
+}
@@ -0,0 +1,130 @@
+package main.accountapi.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import main.accountapi.config.AccountChangeProperties;
+import main.accountapi.config.CacheConfig;
+import main.accountapi.config.DormancyProperties;
+import main.accountapi.model.AccountChangeType;
+import main.accountapi.model.dto.AccountResponse;
+import main.accountapi.model.entity.SweepCheckpoint;
+import main.accountapi.repository.AccountRepository;
+import main.accountapi.repository.SweepCheckpointRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+// 오래 로그인하지 않은 활성 계정을 휴면(DORMANT)으로 바꾸는 주기 작업
+// id 순으로 chunkSize 개씩 범위를 잡아 대상 id 만 조회한 뒤 update 한번으로 바꾸고 청크마다 커밋 (엔티티는 읽지 않음)
+// 진행 위치는 같은 트랜잭션에서 sweep_checkpoint 에 저장해서, 중간에 멈추면 다음 실행 때 그 위치부터 같은 기준으로 이어감
+@Component
+public class DormancySweeper {
+
+    static final String JOB_NAME = "dormancy";
+
+    private static final Logger log = LoggerFactory.getLogger(DormancySweeper.class);
+    private static final int PROGRESS_LOG_CHUNKS = 100;
+
+    private final AccountRepository accountRepository;
+    private final SweepCheckpointRepository checkpointRepository;
+    private final AccountChangeLog changeLog;
+    private final TransactionTemplate transactionTemplate;
+    private final DormancyProperties properties;
+    private final CacheManager cacheManager;
+    private final Counter markedCounter;
+    private final AtomicLong lastId = new AtomicLong();
+
+    public DormancySweeper(AccountRepository accountRepository, SweepCheckpointRepository checkpointRepository,
+                           AccountChangeLog changeLog, PlatformTransactionManager transactionManager,
+                           DormancyProperties properties, AccountChangeProperties changeProperties,
+                           CacheManager cacheManager, MeterRegistry meterRegistry) {
+        this.accountRepository = accountRepository;
+        this.checkpointRepository = checkpointRepository;
+        this.changeLog = changeLog;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        // 변경 기록이 피드의 settle-delay 안에 커밋되거나 롤백되도록 시간 제한
+        this.transactionTemplate.setTimeout(changeProperties.transactionTimeoutSeconds());
+        this.properties = properties;
+        this.cacheManager = cacheManager;
+
+        this.markedCounter = Counter.builder("account.dormancy.marked")
+                .register(meterRegistry);
+        Gauge.builder("account.dormancy.last-id", lastId, AtomicLong::get)
+                .register(meterRegistry);
+    }
+
+    @Scheduled(cron = "${account.dormancy.cron:0 0 3 * * *}")
+    public void sweep() {
+        sweep(Instant.now());
+    }
+
+    // 휴면으로 바꾼 계정 수 반환
+    int sweep(Instant now) {
+        SweepCheckpoint checkpoint = checkpointRepository.findById(JOB_NAME).orElse(null);
+        if (checkpoint == null) {
+            checkpoint = new SweepCheckpoint(JOB_NAME, 0L, now.minus(properties.idleThreshold()), now, now);
+        } else {
+            log.info("Resuming dormancy sweep after id {} (cutoff {})", checkpoint.getLastId(), checkpoint.getCutoff());
+        }
+        Instant cutoff = checkpoint.getCutoff();
+
+        int marked = 0;
+        int chunks = 0;
+        long after = checkpoint.getLastId();
+        while (true) {
+            List<Long> ids = accountRepository.findIdsAfter(after, Limit.of(properties.chunkSize()));
+            if (ids.isEmpty()) {
+                break;
+            }
+            long from = after;
+            long upTo = ids.get(ids.size() - 1);
+
+            // 청크 update, 변경 기록, 진행 위치를 한 트랜잭션으로 커밋
+            // 대상은 잠근 채로 조회하므로 그 사이에 로그인하거나 상태가 바뀐 계정은 대상에서 빠지고, 조회한 행이 모두 바뀜
+            SweepCheckpoint current = checkpoint;
+            List<AccountResponse> dormant = transactionTemplate.execute(status -> {
+                List<AccountResponse> candidates = accountRepository.findDormantCandidates(from, upTo, cutoff);
+                if (!candidates.isEmpty()) {
+                    accountRepository.markDormant(candidates.stream().map(AccountResponse::id).toList(), cutoff);
+                    changeLog.recordAll(AccountChangeType.STATUS_CHANGED, candidates);
+                }
+                current.setLastId(upTo);
+                current.setUpdatedAt(Instant.now());
+                checkpointRepository.save(current);
+                return candidates;
+            });
+            // 캐시된 인증 정보의 version(ETag) 이 지났으므로 커밋 뒤에 제거 (2차 캐시는 JPQL update 때 Hibernate 가 비움)
+            evictAuthentication(dormant);
+
+            after = upTo;
+            marked += dormant.size();
+            markedCounter.increment(dormant.size());
+            lastId.set(upTo);
+            if (++chunks % PROGRESS_LOG_CHUNKS == 0) {
+                log.info("Dormancy sweep at id {}: {} accounts marked dormant", upTo, marked);
+            }
+        }
+
+        transactionTemplate.executeWithoutResult(status -> checkpointRepository.deleteById(JOB_NAME));
+        log.info("Dormancy sweep finished: {} accounts marked dormant (cutoff {})", marked, cutoff);
+        return marked;
+    }
+
+    private void evictAuthentication(List<AccountResponse> accounts) {
+        Cache cache = cacheManager.getCache(CacheConfig.ACCOUNTS_BY_IDS);
+        if (cache != null) {
+            accounts.forEach(account -> cache.evictIfPresent(account.ids()));
+        }
+    }
+}
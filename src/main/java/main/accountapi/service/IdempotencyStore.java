@@ -0,0 +1,81 @@
+package main.accountapi.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import main.accountapi.config.IdempotencyProperties;
+import main.accountapi.exception.IdempotencyKeyReusedException;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Supplier;
+
+// Idempotency-Key 별로 처음 요청의 결과를 보관해서 재시도에는 다시 실행하지 않고 같은 결과를 반환
+// 처리 중인 키도 바로 등록하므로 동시에 들어온 같은 키의 요청은 먼저 온 요청의 결과를 기다림 (한 번만 실행)
+// 실패한 결과는 보관하지 않아서 다음 재시도는 다시 실행, 키는 Caffeine 에 maxKeys 개까지 ttl 동안만 보관
+public class IdempotencyStore<T> {
+
+    // 키 최대 길이 (UUID 등)
+    public static final int MAX_KEY_LENGTH = 255;
+
+    private final Cache<String, Entry<T>> entries;
+    private final Counter replayedCounter;
+
+    public IdempotencyStore(String name, IdempotencyProperties properties, MeterRegistry meterRegistry) {
+        this.entries = Caffeine.newBuilder()
+                .maximumSize(properties.maxKeys())
+                .expireAfterWrite(properties.ttl())
+                .build();
+        this.replayedCounter = Counter.builder("account.idempotency.replayed")
+                .tag("store", name)
+                .register(meterRegistry);
+        Gauge.builder("account.idempotency.keys", entries, Cache::estimatedSize)
+                .tag("store", name)
+                .register(meterRegistry);
+    }
+
+    // fingerprint 는 같은 키로 다른 내용을 보냈는지 확인하는 값 (다르면 IdempotencyKeyReusedException)
+    public Outcome<T> execute(String key, Object fingerprint, Supplier<T> action) {
+        Entry<T> entry = new Entry<>(fingerprint, new CompletableFuture<>());
+        Entry<T> existing = entries.asMap().putIfAbsent(key, entry);
+        if (existing != null) {
+            if (!existing.fingerprint().equals(fingerprint)) {
+                throw new IdempotencyKeyReusedException();
+            }
+            T value = await(existing.result());
+            replayedCounter.increment();
+            return new Outcome<>(value, true);
+        }
+
+        try {
+            T value = action.get();
+            entry.result().complete(value);
+            return new Outcome<>(value, false);
+        } catch (RuntimeException | Error e) {
+            // 기다리던 요청에도 같은 예외를 전달하고 키는 지움
+            entries.asMap().remove(key, entry);
+            entry.result().completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    private static <T> T await(CompletableFuture<T> result) {
+        try {
+            return result.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    // 결과와 저장된 결과를 다시 보낸 것인지 여부
+    public record Outcome<T>(T value, boolean replayed) {
+    }
+
+    private record Entry<T>(Object fingerprint, CompletableFuture<T> result) {
+    }
+}
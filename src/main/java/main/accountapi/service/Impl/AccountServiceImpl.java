@@ -1,38 +1,118 @@
 package main.accountapi.service.Impl;
 
+import main.accountapi.config.AccountChangeProperties;
+import main.accountapi.config.AccountLookupProperties;
+import main.accountapi.config.AccountPageProperties;
+import main.accountapi.config.BulkRegisterProperties;
+import main.accountapi.config.CacheConfig;
+import main.accountapi.exception.AccountVersionConflictException;
+import main.accountapi.exception.DuplicateAccountException;
+import main.accountapi.exception.PasswordHashingBusyException;
+import main.accountapi.model.AccountChangeType;
+import main.accountapi.model.AuditAction;
+import main.accountapi.model.BulkRegisterStatus;
 import main.accountapi.model.UserStatus;
+import main.accountapi.model.dto.AccountCredentials;
+import main.accountapi.model.dto.AccountExportRow;
+import main.accountapi.model.dto.AccountImportProgress;
+import main.accountapi.model.dto.AccountLookupResponse;
+import main.accountapi.model.dto.AccountPageResponse;
+import main.accountapi.model.dto.AccountPatchRequest;
 import main.accountapi.model.dto.AccountResponse;
+import main.accountapi.model.dto.AccountSearchCursor;
+import main.accountapi.model.dto.AccountSearchResponse;
+import main.accountapi.model.dto.AccountsVersion;
 import main.accountapi.model.dto.AuthenticationResponse;
+import main.accountapi.model.dto.BulkRegisterResponse;
+import main.accountapi.model.dto.BulkRegisterResult;
 import main.accountapi.model.dto.LoginRequest;
 import main.accountapi.model.dto.RegisterRequest;
 import main.accountapi.model.entity.Account;
 import main.accountapi.repository.AccountRepository;
+import main.accountapi.security.BoundedPasswordEncoder;
+import main.accountapi.service.AccountChangeLog;
 import main.accountapi.service.AccountService;
+import main.accountapi.service.AuditRecorder;
+import main.accountapi.service.LastLoginRecorder;
+import main.accountapi.service.SingleFlight;
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
-import java.util.stream.Collectors;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
 
 @Service
 public class AccountServiceImpl implements AccountService {
 
+    // SingleFlight 로 합치는 조회 종류 (account.single-flight.calls 의 flight 태그)
+    private static final String CREDENTIALS_FLIGHT = "credentials";
+
+    // 가져오기에서 받는 비밀번호 해시 ({bcrypt} 접두사는 있어도 없어도 됨)
+    private static final Pattern BCRYPT_HASH = Pattern.compile("^(\\{bcrypt})?\\$2[aby]?\\$\\d{2}\\$[./A-Za-z0-9]{53}$");
+
     private final AccountRepository accountRepository;
     private final PasswordEncoder passwordEncoder;
+    private final AccountPageProperties pageProperties;
+    private final BulkRegisterProperties bulkProperties;
+    private final AccountLookupProperties lookupProperties;
+    private final CacheManager cacheManager;
+    private final LastLoginRecorder lastLoginRecorder;
+    private final AccountChangeLog changeLog;
+    private final SingleFlight singleFlight;
+    private final AuditRecorder auditRecorder;
+    private final TransactionTemplate transactionTemplate;
 
-    public AccountServiceImpl(AccountRepository accountRepository, PasswordEncoder passwordEncoder){
+    private volatile String dummyPassword;
+
+    public AccountServiceImpl(AccountRepository accountRepository, PasswordEncoder passwordEncoder,
+                              AccountPageProperties pageProperties, BulkRegisterProperties bulkProperties,
+                              AccountLookupProperties lookupProperties, CacheManager cacheManager,
+                              LastLoginRecorder lastLoginRecorder, AccountChangeLog changeLog,
+                              SingleFlight singleFlight, AuditRecorder auditRecorder,
+                              AccountChangeProperties changeProperties, PlatformTransactionManager transactionManager){
         this.accountRepository = accountRepository;
         this.passwordEncoder = passwordEncoder;
+        this.pageProperties = pageProperties;
+        this.bulkProperties = bulkProperties;
+        this.lookupProperties = lookupProperties;
+        this.cacheManager = cacheManager;
+        this.lastLoginRecorder = lastLoginRecorder;
+        this.changeLog = changeLog;
+        this.singleFlight = singleFlight;
+        this.auditRecorder = auditRecorder;
+        // 비밀번호 해싱은 트랜잭션 밖에서 하고, 변경과 변경 기록(outbox)만 한 트랜잭션으로 묶음
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        // 변경 기록이 피드의 settle-delay 안에 커밋되거나 롤백되도록 시간 제한
+        this.transactionTemplate.setTimeout(changeProperties.transactionTimeoutSeconds());
     }
 
     // 회원가입
     @Override
     public AccountResponse register(RegisterRequest request){
-        if(accountRepository.existsAccountByIds(request.ids())){
-            throw new IllegalArgumentException("존재하는 아이디입니다.");
-        }
-
         //비밀번호 암호화
         String encodePassword = passwordEncoder.encode(request.password());
 
@@ -44,95 +124,487 @@ public class AccountServiceImpl implements AccountService {
         account.setEmail(request.email());
         account.setStatus(UserStatus.ACTIVE); // 기본값은 화성으로
 
-        Account savedAccount = accountRepository.save(account);
+        // 아이디 중복은 미리 조회하지 않고 유니크 인덱스로 막음 (insert 한번)
+        Account savedAccount = transactionTemplate.execute(status -> {
+            Account saved = saveUnique(account);
+            changeLog.record(AccountChangeType.CREATED, saved.getId(), saved.getIds(), null);
+            return saved;
+        });
+        auditRecorder.record(AuditAction.REGISTER, savedAccount.getId(), savedAccount.getIds(), true);
 
         // 응답 디티오로 바꿈
         return new AccountResponse(savedAccount.getId(), savedAccount.getIds(), account.getName(), account.getEmail(), account.getStatus());
     }
 
-    // 로그인
+    // 일괄 회원가입
     @Override
-    public AccountResponse login(LoginRequest request) {
-        // 아이디로 유저를 찾기
-        Account account = accountRepository.findAccountByIds(request.ids());
-        if (account == null) {
-            throw new IllegalArgumentException("아이디 또는 비밀번호가 잘못되었습니다.");
+    public BulkRegisterResponse registerAll(List<RegisterRequest> requests) {
+        if (requests.size() > bulkProperties.maxSize()) {
+            throw new IllegalArgumentException("한번에 가입할 수 있는 계정 수(" + bulkProperties.maxSize() + ")를 넘었습니다.");
         }
 
+        BulkRegisterResult[] results = new BulkRegisterResult[requests.size()];
+
+        // 빈 값, 요청 안에서 중복된 아이디 걸러내기
+        List<Integer> candidates = new ArrayList<>();
+        Set<String> requestedIds = new HashSet<>();
+        for (int i = 0; i < requests.size(); i++) {
+            RegisterRequest request = requests.get(i);
+            if (isBlank(request.ids()) || isBlank(request.password()) || isBlank(request.name()) || isBlank(request.email())) {
+                results[i] = new BulkRegisterResult(request.ids(), BulkRegisterStatus.INVALID, null);
+            } else if (!requestedIds.add(request.ids())) {
+                results[i] = new BulkRegisterResult(request.ids(), BulkRegisterStatus.DUPLICATE, null);
+            } else {
+                candidates.add(i);
+            }
+        }
+
+        // 이미 가입된 아이디는 쿼리 한번으로 확인
+        Set<String> existingIds = candidates.isEmpty() ? Set.of() : accountRepository.findExistingIds(requestedIds);
+        candidates.removeIf(i -> {
+            if (existingIds.contains(requests.get(i).ids())) {
+                results[i] = new BulkRegisterResult(requests.get(i).ids(), BulkRegisterStatus.DUPLICATE, null);
+                return true;
+            }
+            return false;
+        });
+
+        // batchSize 단위로 나눠서 비밀번호는 해싱 스레드풀에서 병렬로 해싱하고, 한 트랜잭션에 JDBC 배치 insert
+        boolean committed = false;
+        for (int from = 0; from < candidates.size(); from += bulkProperties.batchSize()) {
+            List<Integer> chunk = candidates.subList(from, Math.min(from + bulkProperties.batchSize(), candidates.size()));
+
+            List<String> encodedPasswords;
+            try {
+                encodedPasswords = encodeAll(chunk.stream().map(i -> requests.get(i).password()).toList());
+            } catch (PasswordHashingBusyException e) {
+                // 저장된 청크가 없으면 전체를 503 으로, 있으면 그 결과는 돌려주고 이 청크만 BUSY
+                if (!committed) {
+                    throw e;
+                }
+                for (int i : chunk) {
+                    results[i] = new BulkRegisterResult(requests.get(i).ids(), BulkRegisterStatus.BUSY, null);
+                }
+                continue;
+            }
+
+            List<Account> accounts = new ArrayList<>(chunk.size());
+            for (int j = 0; j < chunk.size(); j++) {
+                RegisterRequest request = requests.get(chunk.get(j));
+                Account account = new Account();
+                account.setIds(request.ids());
+                account.setPassword(encodedPasswords.get(j));
+                account.setName(request.name());
+                account.setEmail(request.email());
+                account.setStatus(UserStatus.ACTIVE);
+                accounts.add(account);
+            }
+
+            Set<String> raceIds = new HashSet<>();
+            List<Account> savedAccounts = saveChunk(accounts, raceIds);
+            committed |= !savedAccounts.isEmpty();
+
+            // 저장된 계정은 요청 순서 그대로 (그 사이에 가입된 아이디만 빠짐)
+            int saved = 0;
+            for (int j = 0; j < chunk.size(); j++) {
+                if (raceIds.contains(accounts.get(j).getIds())) {
+                    results[chunk.get(j)] = new BulkRegisterResult(accounts.get(j).getIds(), BulkRegisterStatus.DUPLICATE, null);
+                    continue;
+                }
+                Account account = savedAccounts.get(saved++);
+                auditRecorder.record(AuditAction.REGISTER, account.getId(), account.getIds(), true);
+                results[chunk.get(j)] = new BulkRegisterResult(account.getIds(), BulkRegisterStatus.CREATED,
+                        new AccountResponse(account.getId(), account.getIds(), account.getName(), account.getEmail(), account.getStatus()));
+            }
+        }
+
+        int created = (int) Arrays.stream(results).filter(result -> result.status() == BulkRegisterStatus.CREATED).count();
+        return new BulkRegisterResponse(created, results.length - created, Arrays.asList(results));
+    }
+
+    // 청크를 저장하다 확인 후 그 사이에 가입된 아이디에 걸리면 그 아이디를 raceIds 에 담고 나머지만 다시 저장
+    private List<Account> saveChunk(List<Account> accounts, Set<String> raceIds) {
+        try {
+            return saveAllWithChanges(accounts);
+        } catch (DataIntegrityViolationException e) {
+            if (!isDuplicateIds(e)) {
+                throw e;
+            }
+            raceIds.addAll(accountRepository.findExistingIdsOnPrimary(accounts.stream().map(Account::getIds).toList()));
+            List<Account> retryAccounts = new ArrayList<>();
+            for (Account account : accounts) {
+                if (!raceIds.contains(account.getIds())) {
+                    account.setId(0L); // 실패한 트랜잭션에서 받은 id 는 버림
+                    retryAccounts.add(account);
+                }
+            }
+            return saveAllWithChanges(retryAccounts);
+        }
+    }
+
+    // 청크 insert 와 가입 기록을 한 트랜잭션으로 (중복은 flush 할 때 바로 드러남)
+    private List<Account> saveAllWithChanges(List<Account> accounts) {
+        return transactionTemplate.execute(status -> {
+            List<Account> saved = accountRepository.saveAllAndFlush(accounts);
+            changeLog.recordAll(AccountChangeType.CREATED, saved.stream()
+                    .map(account -> new AccountResponse(account.getId(), account.getIds(), account.getName(), account.getEmail(), account.getStatus()))
+                    .toList());
+            return saved;
+        });
+    }
+
+    // 해싱 스레드풀이 있으면 청크의 해싱을 한번에 넘기고 요청 스레드에서 기다림 (공용 ForkJoinPool 을 막지 않게)
+    private List<String> encodeAll(List<String> rawPasswords) {
+        if (passwordEncoder instanceof BoundedPasswordEncoder boundedEncoder) {
+            return boundedEncoder.encodeAll(rawPasswords);
+        }
+        return rawPasswords.stream().map(passwordEncoder::encode).toList();
+    }
+
+    private static boolean isBlank(String value) {
+        return value == null || value.isBlank();
+    }
+
+    // 저장하다 아이디 유니크 인덱스에 걸리면 DuplicateAccountException(409), 트랜잭션 안에서도 바로 알 수 있게 flush
+    private Account saveUnique(Account account) {
+        try {
+            return accountRepository.saveAndFlush(account);
+        } catch (DataIntegrityViolationException e) {
+            if (isDuplicateIds(e)) {
+                throw new DuplicateAccountException(e);
+            }
+            throw e;
+        }
+    }
+
+    private static boolean isDuplicateIds(DataIntegrityViolationException e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof ConstraintViolationException violation && violation.getConstraintName() != null
+                    && violation.getConstraintName().toUpperCase().contains(Account.UK_USERS_IDS)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // 로그인 (실패하면 예외 대신 빈 값, 아이디가 없어도 비밀번호가 틀렸을 때와 같은 해싱 비용)
+    @Override
+    public Optional<AccountResponse> login(LoginRequest request) {
+        String password = request.password() == null ? "" : request.password();
+
+        // 아이디로 유저를 찾기 (엔티티 대신 필요한 컬럼만, 같은 아이디 동시 로그인은 조회 한번)
+        Optional<AccountCredentials> found = singleFlight.execute(CREDENTIALS_FLIGHT, request.ids(),
+                () -> accountRepository.findCredentialsByIds(request.ids()));
+        if (found.isEmpty()) {
+            // 응답 시간으로 없는 아이디를 구분할 수 없게 가짜 해시와 비교
+            passwordEncoder.matches(password, dummyPassword());
+            auditRecorder.record(AuditAction.LOGIN, null, request.ids(), false);
+            return Optional.empty();
+        }
+        AccountCredentials credentials = found.get();
+
         // 비밀번호 비교
-        if (!passwordEncoder.matches(request.password(), account.getPassword())) {
-            throw new IllegalArgumentException("아이디 또는 비밀번호가 잘못되었습니다.");
+        if (!passwordEncoder.matches(password, credentials.password())) {
+            auditRecorder.record(AuditAction.LOGIN, credentials.id(), credentials.ids(), false);
+            return Optional.empty();
         }
 
+        // 저장된 해시의 강도가 현재 설정보다 낮거나 형식이 오래됐으면 다시 해싱해서 저장
+        if (passwordEncoder.upgradeEncoding(credentials.password())) {
+            String encodePassword = passwordEncoder.encode(password);
+            transactionTemplate.executeWithoutResult(status -> {
+                accountRepository.updatePassword(credentials.id(), encodePassword);
+                changeLog.record(AccountChangeType.UPDATED, credentials.id(), credentials.ids(), null);
+            });
+            evictAuthentication(credentials.id(), credentials.ids());
+        }
+
+        // 마지막 로그인 시각은 모아서 나중에 반영
+        lastLoginRecorder.record(credentials.id(), Instant.now());
+        auditRecorder.record(AuditAction.LOGIN, credentials.id(), credentials.ids(), true);
+
         // 로그인 성공시 AccountResponse 반환
-        return new AccountResponse(account.getId(), account.getIds(), account.getName(), account.getEmail(), account.getStatus());
+        return Optional.of(credentials.toResponse());
+    }
+
+    // 없는 아이디 로그인시 비교할 해시 (현재 강도로 처음 필요할 때 한번만 생성, 동시에 만들어져도 상관없음)
+    private String dummyPassword() {
+        String hash = dummyPassword;
+        if (hash == null) {
+            hash = passwordEncoder.encode(UUID.randomUUID().toString());
+            dummyPassword = hash;
+        }
+        return hash;
     }
 
     //모든 멤버들 불러오기
     @Override
     public List<AccountResponse> getAllAccounts(){
-        List<Account> accounts = accountRepository.findAll();
+        return accountRepository.findAllAccountResponses();
+    }
 
-        return accounts.stream()
-                .map(account -> new AccountResponse(account.getId(),account.getIds(), account.getName(), account.getEmail(), account.getStatus()))
-                .collect(Collectors.toList());
+    // 전체 멤버 목록의 버전 (ETag)
+    @Override
+    public AccountsVersion getAccountsVersion() {
+        return accountRepository.findAccountsVersion();
     }
 
-    // 아이디로 유저정보 조회
+    // id 커서 이후의 멤버들을 페이지 단위로 불러오기
+    @Override
+    public AccountPageResponse getAccountsAfter(long after, Integer size) {
+        int pageSize = size == null ? pageProperties.defaultSize() : Math.min(Math.max(size, 1), pageProperties.maxSize());
+
+        List<AccountResponse> accounts = accountRepository.findAccountsAfter(after, Limit.of(pageSize));
+
+        // 꽉 찬 페이지면 마지막 id 를 다음 커서로
+        Long nextCursor = accounts.size() < pageSize ? null : accounts.get(accounts.size() - 1).id();
+        return new AccountPageResponse(accounts, nextCursor);
+    }
+
+    // 이름, 이메일 앞부분과 상태로 멤버 검색 (조건마다 인덱스 사용, 페이지 크기는 목록 조회와 같음)
+    @Override
+    public AccountSearchResponse searchAccounts(String name, String email, UserStatus status, String cursor, Integer size) {
+        int pageSize = size == null ? pageProperties.defaultSize() : Math.min(Math.max(size, 1), pageProperties.maxSize());
+        String namePrefix = blankToNull(name);
+        String emailPrefix = blankToNull(email);
+        AccountSearchCursor after = cursor == null || cursor.isBlank() ? null : AccountSearchCursor.decode(cursor);
+
+        List<AccountResponse> accounts = accountRepository.searchAccounts(namePrefix, emailPrefix, status, after, pageSize);
+
+        // 꽉 찬 페이지면 마지막 계정을 다음 커서로
+        String nextCursor = accounts.size() < pageSize ? null
+                : AccountSearchCursor.of(accounts.get(accounts.size() - 1), namePrefix, emailPrefix).encode();
+        return new AccountSearchResponse(accounts, nextCursor);
+    }
+
+    // 모든 멤버들을 한 명씩 consumer 로 흘려보내기 (스트림은 트랜잭션 안에서만 열려있음)
+    @Override
+    @Transactional(readOnly = true)
+    public void streamAllAccounts(Consumer<AccountResponse> consumer) {
+        try (Stream<AccountResponse> accounts = accountRepository.streamAllAccounts()) {
+            accounts.forEach(consumer);
+        }
+    }
+
+    // 비밀번호 해시까지 JDBC 커서에서 바로 넘김 (엔티티, 2차 캐시를 거치지 않음)
+    @Override
+    public void exportAccounts(Consumer<AccountExportRow> consumer) {
+        accountRepository.exportAccounts(consumer);
+    }
+
+    // 일괄 회원가입과 같은 방식으로 batchSize 개씩 저장하고 청크마다 커밋 (중간에 실패해도 앞 청크는 남음)
+    // 끝까지 읽지 않고 한 청크씩만 들고 있으므로 메모리는 파일 크기와 상관없음, 다시 가져오면 이미 있는 아이디는 중복으로 건너뜀
+    @Override
+    public void importAccounts(Iterator<AccountExportRow> rows, Consumer<AccountImportProgress> progress) {
+        long total = 0;
+        int chunk = 0;
+        while (rows.hasNext()) {
+            List<AccountExportRow> chunkRows = new ArrayList<>(bulkProperties.batchSize());
+            while (chunkRows.size() < bulkProperties.batchSize() && rows.hasNext()) {
+                chunkRows.add(rows.next());
+            }
+            total += chunkRows.size();
+            progress.accept(importChunk(++chunk, chunkRows, total));
+        }
+    }
+
+    private AccountImportProgress importChunk(int chunk, List<AccountExportRow> rows, long total) {
+        int invalid = 0;
+        int duplicates = 0;
+        Map<String, Account> accounts = new LinkedHashMap<>();
+        for (AccountExportRow row : rows) {
+            if (isBlank(row.ids()) || isBlank(row.name()) || isBlank(row.email())
+                    || row.password() == null || !BCRYPT_HASH.matcher(row.password()).matches()) {
+                invalid++;
+            } else if (accounts.containsKey(row.ids())) {
+                duplicates++;
+            } else {
+                // 해시는 다시 만들지 않고 그대로 (접두사가 없는 해시는 로그인할 때 {bcrypt} 형식으로 다시 저장됨)
+                Account account = new Account();
+                account.setIds(row.ids());
+                account.setPassword(row.password());
+                account.setName(row.name());
+                account.setEmail(row.email());
+                account.setStatus(row.status() == null ? UserStatus.ACTIVE : row.status());
+                account.setLastLoginAt(row.lastLoginAt());
+                accounts.put(row.ids(), account);
+            }
+        }
+
+        // 앞 청크에서 가져왔거나 이미 가입된 아이디는 쿼리 한번으로 확인
+        if (!accounts.isEmpty()) {
+            Set<String> existingIds = accountRepository.findExistingIds(accounts.keySet());
+            duplicates += existingIds.size();
+            accounts.keySet().removeAll(existingIds);
+        }
+        List<Account> savedAccounts = List.of();
+        if (!accounts.isEmpty()) {
+            Set<String> raceIds = new HashSet<>();
+            savedAccounts = saveChunk(new ArrayList<>(accounts.values()), raceIds);
+            duplicates += raceIds.size();
+        }
+        for (Account account : savedAccounts) {
+            auditRecorder.record(AuditAction.REGISTER, account.getId(), account.getIds(), true);
+        }
+        return new AccountImportProgress(chunk, savedAccounts.size(), duplicates, invalid, total);
+    }
+
+    // 아이디로 유저정보 조회 (연결된 엔드포인트 없음, GET /accounts/{ids} 는 authenticateLogin)
     @Override
     public AccountResponse getAccountByIds(String ids){
-        Account account = accountRepository.findAccountByIds(ids);
-        if(account == null){
-            throw new IllegalArgumentException("찾을 수 없는 아이디입니다.");
+        return accountRepository.findAccountResponseByIds(ids)
+                .orElseThrow(() -> new IllegalArgumentException("찾을 수 없는 아이디입니다."));
+    }
+
+    // 여러 아이디로 유저정보 한번에 조회 (요청 순서 유지, 없는 아이디는 missing)
+    @Override
+    public AccountLookupResponse lookupAccounts(List<String> ids) {
+        Set<String> requestedIds = new LinkedHashSet<>(ids);
+        if (requestedIds.size() > lookupProperties.maxIds()) {
+            throw new IllegalArgumentException("한번에 조회할 수 있는 아이디 수(" + lookupProperties.maxIds() + ")를 넘었습니다.");
+        }
+        if (requestedIds.isEmpty()) {
+            return new AccountLookupResponse(Map.of(), List.of());
         }
 
-        return new AccountResponse(account.getId(), account.getIds(), account.getName(), account.getEmail(), account.getStatus());
+        Map<String, AccountResponse> found = new HashMap<>();
+        for (AccountResponse account : accountRepository.findAccountResponsesByIdsIn(requestedIds)) {
+            found.put(account.ids(), account);
+        }
+
+        Map<String, AccountResponse> accounts = new LinkedHashMap<>();
+        List<String> missing = new ArrayList<>();
+        for (String requestedId : requestedIds) {
+            AccountResponse account = found.get(requestedId);
+            if (account == null) {
+                missing.add(requestedId);
+            } else {
+                accounts.put(requestedId, account);
+            }
+        }
+        return new AccountLookupResponse(accounts, missing);
     }
 
     // 회원정보 수정
     @Override
     public AccountResponse updateAccount(long id, RegisterRequest request){
-        Account existingAccount = accountRepository.findById(id)
-                .orElseThrow(() -> new IllegalArgumentException("유저를 찾을 수 없습니다."));
+        // 비밀번호 변경 시 암호화 (트랜잭션 밖에서)
+        String encodePassword = request.password() != null && !request.password().isEmpty()
+                ? passwordEncoder.encode(request.password())
+                : null;
+
+        UpdatedAccount updated = transactionTemplate.execute(status -> {
+            Account existingAccount = accountRepository.findCurrentById(id)
+                    .orElseThrow(() -> new IllegalArgumentException("유저를 찾을 수 없습니다."));
+            String previousIds = existingAccount.getIds();
+
+            existingAccount.setIds(request.ids());
+            existingAccount.setName(request.name());
+            existingAccount.setEmail(request.email());
+            if (encodePassword != null) {
+                existingAccount.setPassword(encodePassword);
+            }
 
-        existingAccount.setIds(request.ids());
-        existingAccount.setPassword(request.password());
-        existingAccount.setName(request.name());
-        existingAccount.setEmail(request.email());
+            Account saved = saveUnique(existingAccount);
+            changeLog.record(AccountChangeType.UPDATED, saved.getId(), saved.getIds(),
+                    Objects.equals(previousIds, saved.getIds()) ? null : previousIds);
+            return new UpdatedAccount(saved, previousIds);
+        });
+        Account updatedAccount = updated.account();
 
-        // 비밀번호 변경 시 암호화
-        if (request.password() != null && !request.password().isEmpty()) {
-            existingAccount.setPassword(passwordEncoder.encode(request.password()));
+        // 바뀌기 전 아이디와 바뀐 아이디 모두 캐시에서 제거
+        evictAuthentication(updatedAccount.getId(), updated.previousIds());
+        evictAuthentication(updatedAccount.getId(), updatedAccount.getIds());
+        auditRecorder.record(AuditAction.UPDATE, updatedAccount.getId(), updatedAccount.getIds(), true);
+        return new AccountResponse(updatedAccount.getId(), updatedAccount.getIds(), updatedAccount.getName(), updatedAccount.getEmail(), updatedAccount.getStatus());
+    }
+
+    // 회원정보 부분 수정 (요청에 있는 컬럼만 update, 비밀번호가 없으면 해싱하지 않음)
+    @Override
+    public long patchAccount(long id, AccountPatchRequest request) {
+        String previousIds = accountRepository.findIdsById(id)
+                .orElseThrow(() -> new IllegalArgumentException("유저를 찾을 수 없습니다."));
+        String encodePassword = request.password() == null ? null : passwordEncoder.encode(request.password());
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                int updated = accountRepository.updateFields(id, request.version(), request.ids(), encodePassword, request.name(), request.email());
+                // 조회한 뒤 version 이 바뀌었으면 수정하지 않음
+                if (updated == 0) {
+                    throw new AccountVersionConflictException();
+                }
+                boolean idsChanged = request.ids() != null && !request.ids().equals(previousIds);
+                changeLog.record(AccountChangeType.UPDATED, id, idsChanged ? request.ids() : previousIds, idsChanged ? previousIds : null);
+            });
+        } catch (DataIntegrityViolationException e) {
+            if (isDuplicateIds(e)) {
+                throw new DuplicateAccountException(e);
+            }
+            throw e;
         }
 
-        accountRepository.save(existingAccount);
-        return new AccountResponse(existingAccount.getId(), existingAccount.getIds(), existingAccount.getName(), existingAccount.getEmail(), existingAccount.getStatus());
+        evictAuthentication(id, previousIds);
+        evictAuthentication(id, request.ids());
+        auditRecorder.record(AuditAction.UPDATE, id, request.ids() != null ? request.ids() : previousIds, true);
+        return request.version() + 1;
     }
 
     // 회원상태 변경
     @Override
     public AccountResponse updateStatus(long id, UserStatus status) {
-        Account account = accountRepository.findById(id)
-                .orElseThrow(() -> new IllegalArgumentException("유저를 찾을 수 없습니다."));
-        account.setStatus(status);
-        accountRepository.save(account);
+        Account account = transactionTemplate.execute(transactionStatus -> {
+            Account existingAccount = accountRepository.findCurrentById(id)
+                    .orElseThrow(() -> new IllegalArgumentException("유저를 찾을 수 없습니다."));
+            existingAccount.setStatus(status);
+            accountRepository.save(existingAccount);
+            changeLog.record(AccountChangeType.STATUS_CHANGED, existingAccount.getId(), existingAccount.getIds(), null);
+            return existingAccount;
+        });
+        evictAuthentication(account.getId(), account.getIds());
+        auditRecorder.record(AuditAction.STATUS_CHANGE, account.getId(), account.getIds(), true);
         return new AccountResponse(account.getId(), account.getIds(), account.getName(), account.getEmail(), account.getStatus());
     }
 
     // 회원 삭제
     @Override
     public void deleteAccount(long id) {
-        Account account = accountRepository.findById(id)
-                .orElseThrow(() -> new IllegalArgumentException("유저를 찾을 수 없습니다."));
-        accountRepository.delete(account);
+        Account account = transactionTemplate.execute(status -> {
+            Account existingAccount = accountRepository.findCurrentById(id)
+                    .orElseThrow(() -> new IllegalArgumentException("유저를 찾을 수 없습니다."));
+            accountRepository.delete(existingAccount);
+            changeLog.record(AccountChangeType.DELETED, existingAccount.getId(), existingAccount.getIds(), null);
+            return existingAccount;
+        });
+        evictAuthentication(account.getId(), account.getIds());
+        auditRecorder.record(AuditAction.DELETE, account.getId(), account.getIds(), true);
     }
 
+    // 아이디로 로그인 인증 정보 조회 (캐시에 없을 때만 DB 조회, 같은 아이디 동시 조회는 캐시가 한번만 로딩)
+    // 동시 조회는 SingleFlight 가 아닌 캐시의 로딩을 시간 제한 없이 기다림 (503 없음)
+    // sync: 로딩 중에 들어온 캐시 제거는 로딩이 끝난 뒤에 실행되므로, 수정 전에 읽은 값이 제거 뒤에 캐시에 남지 않음
     @Override
+    @Cacheable(cacheNames = CacheConfig.ACCOUNTS_BY_IDS, key = "#ids", sync = true)
     public AuthenticationResponse authenticateLogin(String ids) {
+        return accountRepository.findAuthenticationByIds(ids)
+                .orElseThrow(() -> new IllegalArgumentException("찾을 수 없는 아이디입니다."));
+    }
+
+    // 계정이 바뀌면 커밋 뒤에 캐시된 인증 정보와 2차 캐시 항목을 바로 제거
+    private void evictAuthentication(long id, String ids) {
+        Cache cache = cacheManager.getCache(CacheConfig.ACCOUNTS_BY_IDS);
+        if (cache != null && ids != null) {
+            cache.evictIfPresent(ids);
+        }
+        accountRepository.evictCached(id, ids);
+    }
 
-        Account account = accountRepository.findAccountByIds(ids);
-        return new AuthenticationResponse(account.getIds(), account.getPassword(), account.getName(), account.getEmail());
+    // 빈 검색 조건은 조건 없음으로
+    private static String blankToNull(String value) {
+        return value == null || value.isBlank() ? null : value;
+    }
 
+    // 수정된 계정과 수정 전 아이디
+    private record UpdatedAccount(Account account, String previousIds) {
     }
 
 }
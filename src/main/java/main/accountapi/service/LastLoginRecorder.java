@@ -0,0 +1,93 @@
+package main.accountapi.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import main.accountapi.config.LastLoginProperties;
+import main.accountapi.repository.AccountRepository;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantLock;
+
+// 마지막 로그인 시각을 로그인마다 update 하지 않고 메모리에 모아뒀다가 한번에 반영 (write-behind)
+// 계정마다 가장 최근 시각 하나만 남기고, flushInterval 마다, 또는 maxBuffer 개가 모이면, 종료할 때 배치 update
+// 반영이 계속 실패해서 capacity 개가 쌓이면 버퍼에 없는 계정의 시각은 버림 (마지막 로그인 시각은 잃어도 되는 값)
+@Component
+public class LastLoginRecorder implements AutoCloseable {
+
+    private final AccountRepository accountRepository;
+    private final TaskScheduler taskScheduler;
+    private final int maxBuffer;
+    private final int capacity;
+
+    // 계정 id -> 마지막 로그인 시각
+    private final ConcurrentHashMap<Long, Instant> buffer = new ConcurrentHashMap<>();
+    private final ReentrantLock flushLock = new ReentrantLock();
+    private final AtomicBoolean flushRequested = new AtomicBoolean();
+    private final Counter flushedCounter;
+    private final Counter droppedCounter;
+
+    public LastLoginRecorder(AccountRepository accountRepository, TaskScheduler taskScheduler,
+                             LastLoginProperties properties, MeterRegistry meterRegistry) {
+        this.accountRepository = accountRepository;
+        this.taskScheduler = taskScheduler;
+        this.maxBuffer = properties.maxBuffer();
+        this.capacity = properties.capacity();
+
+        this.flushedCounter = Counter.builder("account.last-login.flushed")
+                .register(meterRegistry);
+        this.droppedCounter = Counter.builder("account.last-login.dropped")
+                .register(meterRegistry);
+        Gauge.builder("account.last-login.buffer", buffer, Map::size)
+                .register(meterRegistry);
+    }
+
+    // 로그인 성공시 호출 (DB 접근 없음)
+    public void record(long id, Instant loginAt) {
+        // 이미 있는 계정은 시각만 바뀌므로 버퍼가 커지지 않음 (동시에 들어오면 스레드 수만큼 넘을 수 있음)
+        if (buffer.size() >= capacity && !buffer.containsKey(id)) {
+            droppedCounter.increment();
+            return;
+        }
+        buffer.merge(id, loginAt, (previous, current) -> current.isAfter(previous) ? current : previous);
+
+        if (buffer.size() >= maxBuffer && flushRequested.compareAndSet(false, true)) {
+            taskScheduler.schedule(this::flush, Instant.now());
+        }
+    }
+
+    // 모아둔 시각을 배치 update 로 반영 (동시에 한번만 실행)
+    @Scheduled(fixedDelayString = "${account.last-login.flush-interval:10s}")
+    public void flush() {
+        flushLock.lock();
+        try {
+            flushRequested.set(false);
+            if (buffer.isEmpty()) {
+                return;
+            }
+
+            // 실패하면 버퍼에 그대로 남아서 다음 주기에 다시 시도
+            Map<Long, Instant> snapshot = new HashMap<>(buffer);
+            accountRepository.updateLastLoginAt(snapshot);
+
+            // 반영한 값과 같을 때만 제거 (반영하는 사이 더 최근 시각이 들어온 계정은 남겨둠)
+            snapshot.forEach(buffer::remove);
+            flushedCounter.increment(snapshot.size());
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    // 종료할 때 남은 시각 반영
+    @Override
+    public void close() {
+        flush();
+    }
+}
@@ -0,0 +1,86 @@
+package main.accountapi.service;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+// 크기가 정해진 lock-free 링 버퍼 (여러 스레드가 넣고, 꺼내는 건 한 스레드만)
+// 칸마다 순번을 둬서 넣는 쪽은 tail 을 CAS 로 차지한 뒤 값을 쓰고 순번을 올려 꺼내도 된다고 알림
+// 꺼내는 쪽은 순번을 보고 다 쓰인 칸만 읽은 뒤 한 바퀴 뒤의 순번으로 바꿔서 다시 쓸 수 있게 함
+public class RingBuffer<E> {
+
+    private final AtomicReferenceArray<E> slots;
+    private final AtomicLongArray sequences;
+    private final int mask;
+
+    // 다음에 넣을 위치, 다음에 꺼낼 위치 (계속 증가)
+    private final AtomicLong tail = new AtomicLong();
+    private final AtomicLong head = new AtomicLong();
+
+    public RingBuffer(int capacity) {
+        if (capacity < 2 || capacity > 1 << 30) {
+            throw new IllegalArgumentException("capacity 는 2 이상 2^30 이하여야 합니다: " + capacity);
+        }
+        int size = 1 << (32 - Integer.numberOfLeadingZeros(capacity - 1));
+        this.slots = new AtomicReferenceArray<>(size);
+        this.sequences = new AtomicLongArray(size);
+        this.mask = size - 1;
+        for (int i = 0; i < size; i++) {
+            sequences.set(i, i);
+        }
+    }
+
+    // 자리가 없으면 false (기다리지 않음)
+    public boolean offer(E element) {
+        long position = tail.get();
+        while (true) {
+            int index = (int) position & mask;
+            long diff = sequences.get(index) - position;
+            if (diff == 0) {
+                if (tail.compareAndSet(position, position + 1)) {
+                    slots.set(index, element);
+                    sequences.set(index, position + 1);
+                    return true;
+                }
+                position = tail.get();
+            } else if (diff < 0) {
+                // 한 바퀴 전 값을 아직 꺼내지 않음
+                return false;
+            } else {
+                // 다른 스레드가 먼저 차지함
+                position = tail.get();
+            }
+        }
+    }
+
+    // 꺼내는 스레드에서만 호출, 최대 max 개를 꺼내서 target 에 추가하고 꺼낸 수를 반환
+    public int drainTo(List<? super E> target, int max) {
+        int drained = 0;
+        long position = head.get();
+        while (drained < max) {
+            int index = (int) position & mask;
+            if (sequences.get(index) != position + 1) {
+                // 비었거나 차지만 하고 아직 쓰는 중
+                break;
+            }
+            target.add(slots.get(index));
+            slots.set(index, null);
+            sequences.set(index, position + capacity());
+            position++;
+            drained++;
+        }
+        head.set(position);
+        return drained;
+    }
+
+    // 대략적인 개수 (동시에 넣고 꺼내는 중이면 정확하지 않음)
+    public int size() {
+        long size = tail.get() - head.get();
+        return (int) Math.max(0, Math.min(size, capacity()));
+    }
+
+    public int capacity() {
+        return mask + 1;
+    }
+}
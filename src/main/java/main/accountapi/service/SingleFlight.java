@@ -0,0 +1,98 @@
+package main.accountapi.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import main.accountapi.config.SingleFlightProperties;
+import main.accountapi.exception.SingleFlightTimeoutException;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+// 같은 키로 동시에 들어온 조회를 하나로 합쳐서 먼저 온 요청(leader)만 실행하고 나머지(follower)는 그 결과를 같이 씀
+// 결과는 보관하지 않음 (실행이 끝나면 바로 지워서 다음 요청은 다시 조회), 예외도 기다리던 요청 모두에게 전달
+// follower 는 timeout 까지만 기다리고 넘으면 SingleFlightTimeoutException (503)
+@Component
+public class SingleFlight {
+
+    private final Map<FlightKey, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+    private final Map<String, Meters> meters = new ConcurrentHashMap<>();
+    private final Duration timeout;
+    private final MeterRegistry meterRegistry;
+
+    public SingleFlight(SingleFlightProperties properties, MeterRegistry meterRegistry) {
+        this.timeout = properties.timeout();
+        this.meterRegistry = meterRegistry;
+        Gauge.builder("account.single-flight.in-flight", inFlight, Map::size)
+                .register(meterRegistry);
+    }
+
+    // flight 는 조회 종류 (메트릭 태그, 종류가 다르면 키가 같아도 합치지 않음)
+    @SuppressWarnings("unchecked")
+    public <T> T execute(String flight, Object key, Supplier<T> loader) {
+        Meters flightMeters = meters.computeIfAbsent(flight, this::meters);
+        FlightKey flightKey = new FlightKey(flight, key);
+        CompletableFuture<Object> call = new CompletableFuture<>();
+        CompletableFuture<Object> existing = inFlight.putIfAbsent(flightKey, call);
+        if (existing != null) {
+            flightMeters.followers().increment();
+            return (T) await(existing, flightMeters);
+        }
+
+        flightMeters.leaders().increment();
+        try {
+            T value = loader.get();
+            call.complete(value);
+            return value;
+        } catch (RuntimeException | Error e) {
+            call.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(flightKey, call);
+        }
+    }
+
+    private Object await(CompletableFuture<Object> call, Meters flightMeters) {
+        try {
+            return call.get(timeout.toNanos(), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            flightMeters.timeouts().increment();
+            throw new SingleFlightTimeoutException();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SingleFlightTimeoutException();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    // 합쳐진 비율 = follower / (leader + follower)
+    private Meters meters(String flight) {
+        return new Meters(
+                Counter.builder("account.single-flight.calls").tag("flight", flight).tag("role", "leader")
+                        .register(meterRegistry),
+                Counter.builder("account.single-flight.calls").tag("flight", flight).tag("role", "follower")
+                        .register(meterRegistry),
+                Counter.builder("account.single-flight.timeouts").tag("flight", flight)
+                        .register(meterRegistry));
+    }
+
+    private record FlightKey(String flight, Object key) {
+    }
+
+    private record Meters(Counter leaders, Counter followers, Counter timeouts) {
+    }
+}
@@ -0,0 +1,3 @@
+-- replica 프로필의 H2 복제본, 원본 메모리 DB(testdb) 의 테이블을 읽기 전용으로 연결 (INFORMATION_SCHEMA.USERS 와 구분되게 스키마 지정)
+CREATE LINKED TABLE IF NOT EXISTS users('org.h2.Driver', 'jdbc:h2:mem:testdb', 'sa', '', 'PUBLIC', 'USERS') READONLY;
+CREATE LINKED TABLE IF NOT EXISTS account_changes('org.h2.Driver', 'jdbc:h2:mem:testdb', 'sa', '', 'PUBLIC', 'ACCOUNT_CHANGES') READONLY;
@@ -0,0 +1,104 @@
+package main.accountapi.config;
+
+import main.accountapi.model.UserStatus;
+import main.accountapi.model.dto.AccountResponse;
+import main.accountapi.model.entity.Account;
+import main.accountapi.repository.AccountRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import javax.sql.DataSource;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 서로 다른 H2 인스턴스 두개를 원본, 복제본으로 두고 어느 쪽에서 읽는지 확인 (복제는 하지 않음)
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:routing-primary",
+        "account.datasource.replica.jdbc-url=jdbc:h2:mem:routing-replica",
+        "account.datasource.replica.username=sa",
+        "account.datasource.replica.maximum-pool-size=2",
+        "account.password.bcrypt.strength=4"
+})
+public class DataSourceRoutingConfigTest {
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @Autowired
+    @Qualifier("replicaDataSource")
+    private DataSource replicaDataSource;
+
+    private JdbcTemplate replica;
+
+    @BeforeEach
+    public void setUp() {
+        // 복제본에는 스키마를 만들지 않으므로 조회에 필요한 테이블과 복제본에만 있는 계정을 직접 넣음
+        replica = new JdbcTemplate(replicaDataSource);
+        replica.execute("create table if not exists users (id bigint primary key, ids varchar(255), password varchar(255), " +
+                "name varchar(255), email varchar(255), status varchar(20), last_login_at timestamp(6) with time zone, version bigint)");
+        replica.update("insert into users (id, ids, password, name, email, status, version) " +
+                "values (1000, 'replicauser', 'password', '복제본', 'replica@example.com', 'ACTIVE', 0)");
+    }
+
+    @AfterEach
+    public void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+        replica.update("delete from users");
+        accountRepository.deleteAll();
+    }
+
+    @Test
+    public void readOnlyQueries_ShouldUseReplica_AndWritesPrimary() {
+        RequestContextHolder.resetRequestAttributes(); // 요청 밖 (주기 작업 등) 에서는 쓰기 후에도 복제본
+        accountRepository.save(new Account(0L, "primaryuser", "password", "원본", "primary@example.com", UserStatus.ACTIVE, null, 0L));
+
+        assertThat(accountRepository.findAccountResponseByIds("replicauser")).map(AccountResponse::name).hasValue("복제본");
+        assertThat(accountRepository.findAccountResponseByIds("primaryuser")).isEmpty();
+        assertThat(replica.queryForObject("select count(*) from users where ids = 'primaryuser'", Long.class)).isZero();
+    }
+
+    @Test
+    public void authenticationLookup_ShouldUsePrimary_BecauseItIsCached() {
+        RequestContextHolder.resetRequestAttributes();
+        accountRepository.save(new Account(0L, "primaryuser", "password", "원본", "primary@example.com", UserStatus.ACTIVE, null, 0L));
+
+        assertThat(accountRepository.findAuthenticationByIds("primaryuser")).isPresent();
+        assertThat(accountRepository.findAuthenticationByIds("replicauser")).isEmpty();
+    }
+
+    @Test
+    public void lookupsBeforeWrites_ShouldUsePrimary() {
+        RequestContextHolder.resetRequestAttributes();
+        Account saved = accountRepository.save(new Account(0L, "primaryuser", "password", "원본", "primary@example.com", UserStatus.ACTIVE, null, 0L));
+
+        // 부분 수정의 이전 아이디, 저장 실패 뒤 중복 확인은 복제본에 아직 없는 계정도 봐야 함
+        assertThat(accountRepository.findIdsById(saved.getId())).hasValue("primaryuser");
+        assertThat(accountRepository.findIdsById(1000L)).isEmpty();
+        assertThat(accountRepository.findExistingIdsOnPrimary(List.of("primaryuser", "replicauser"))).containsExactly("primaryuser");
+        assertThat(accountRepository.findExistingIds(List.of("primaryuser", "replicauser"))).containsExactly("replicauser");
+    }
+
+    @Test
+    public void readAfterWriteInSameRequest_ShouldUsePrimary() {
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+        assertThat(accountRepository.findAccountResponseByIds("replicauser")).isPresent(); // 쓰기 전에는 복제본
+
+        accountRepository.save(new Account(0L, "primaryuser", "password", "원본", "primary@example.com", UserStatus.ACTIVE, null, 0L));
+
+        assertThat(accountRepository.findAccountResponseByIds("primaryuser")).isPresent();
+        assertThat(accountRepository.findAccountResponseByIds("replicauser")).isEmpty();
+
+        // 다른 요청은 다시 복제본
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+        assertThat(accountRepository.findAccountResponseByIds("primaryuser")).isEmpty();
+    }
+}
@@ -0,0 +1,81 @@
+package main.accountapi.config;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.httpBasic;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// 내보내기/가져오기, 메트릭은 관리자만, 나머지 /accounts/** 와 상태 확인은 그대로 허용
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:security",
+        "account.password.bcrypt.strength=4",
+        "spring.security.user.password={bcrypt}" + SecurityConfigTest.ADMIN_PASSWORD_HASH
+})
+@AutoConfigureMockMvc
+public class SecurityConfigTest {
+
+    // "adminpw" 의 BCrypt 해시
+    static final String ADMIN_PASSWORD_HASH = "$2a$04$9B9GIMTumWmJu8LLju92IudPb0IyFOV5JyjdhDIzpatXYmlyDkuGS";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    public void exportAndImport_ShouldRequireAuthentication() throws Exception {
+        mockMvc.perform(get("/accounts/export"))
+                .andExpect(status().isUnauthorized());
+        mockMvc.perform(post("/accounts/import").contentType("text/csv").content("ids\n"))
+                .andExpect(status().isUnauthorized());
+        mockMvc.perform(get("/accounts/export").with(httpBasic("admin", "wrong")))
+                .andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    @WithMockUser(roles = "USER")
+    public void export_ShouldBeForbidden_ForNonAdmin() throws Exception {
+        mockMvc.perform(get("/accounts/export"))
+                .andExpect(status().isForbidden());
+    }
+
+    @Test
+    public void export_ShouldBeAllowed_ForAdmin() throws Exception {
+        mockMvc.perform(get("/accounts/export").with(httpBasic("admin", "adminpw")))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    public void metrics_ShouldRequireAdmin() throws Exception {
+        mockMvc.perform(get("/actuator/prometheus"))
+                .andExpect(status().isUnauthorized());
+        mockMvc.perform(get("/actuator/metrics"))
+                .andExpect(status().isUnauthorized());
+        mockMvc.perform(get("/actuator/metrics").with(httpBasic("admin", "adminpw")))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    @WithMockUser(roles = "USER")
+    public void metrics_ShouldBeForbidden_ForNonAdmin() throws Exception {
+        mockMvc.perform(get("/actuator/metrics"))
+                .andExpect(status().isForbidden());
+    }
+
+    @Test
+    public void health_ShouldStayOpen() throws Exception {
+        mockMvc.perform(get("/actuator/health"))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    public void otherAccountEndpoints_ShouldStayOpen() throws Exception {
+        mockMvc.perform(get("/accounts/unknownuser"))
+                .andExpect(status().isNotFound());
+    }
+}
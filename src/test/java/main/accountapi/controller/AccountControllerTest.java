@@ -1,28 +1,66 @@
 package main.accountapi.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import main.accountapi.config.IdempotencyProperties;
+import main.accountapi.exception.AccountVersionConflictException;
+import main.accountapi.exception.GlobalExceptionHandler;
+import main.accountapi.exception.PasswordHashingBusyException;
+import main.accountapi.model.BulkRegisterStatus;
 import main.accountapi.model.UserStatus;
+import main.accountapi.model.AccountChangeType;
+import main.accountapi.model.dto.AccountChangePageResponse;
+import main.accountapi.model.dto.AccountChangeResponse;
+import main.accountapi.model.dto.AccountExportRow;
+import main.accountapi.model.dto.AccountImportProgress;
+import main.accountapi.model.dto.AccountLookupResponse;
+import main.accountapi.model.dto.AccountPageResponse;
+import main.accountapi.model.dto.AccountPatchRequest;
 import main.accountapi.model.dto.AccountResponse;
+import main.accountapi.model.dto.AccountSearchResponse;
+import main.accountapi.model.dto.AccountsVersion;
 import main.accountapi.model.dto.AuthenticationResponse;
+import main.accountapi.model.dto.BulkRegisterResponse;
+import main.accountapi.model.dto.BulkRegisterResult;
 import main.accountapi.model.dto.LoginRequest;
 import main.accountapi.model.dto.RegisterRequest;
+import main.accountapi.model.entity.Account;
+import main.accountapi.security.LoginRateLimiter;
+import main.accountapi.service.AccountChangeFeed;
 import main.accountapi.service.AccountService;
+import main.accountapi.service.IdempotencyStore;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.http.MediaType;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.startsWith;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.Mockito.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
 
 @SpringBootTest
 @AutoConfigureMockMvc
@@ -31,6 +69,19 @@ public class AccountControllerTest {
     @Mock
     private AccountService accountService;
 
+    @Spy
+    private ObjectMapper objectMapper = new ObjectMapper();
+
+    @Mock
+    private LoginRateLimiter loginRateLimiter;
+
+    @Mock
+    private AccountChangeFeed changeFeed;
+
+    @Spy
+    private IdempotencyStore<AccountResponse> registerIdempotencyStore =
+            new IdempotencyStore<>("register", new IdempotencyProperties(Duration.ofMinutes(1), 100), new SimpleMeterRegistry());
+
     @InjectMocks
     private AccountController accountController;
 
@@ -45,7 +96,10 @@ public class AccountControllerTest {
 
     @BeforeEach
     public void setup() {
-        mockMvc = MockMvcBuilders.standaloneSetup(accountController).build();
+        mockMvc = MockMvcBuilders.standaloneSetup(accountController)
+                .setControllerAdvice(new GlobalExceptionHandler())
+                .build();
+        when(loginRateLimiter.acquire(any(), any())).thenReturn(Duration.ZERO);
 
         accountResponse = new AccountResponse(1L, "testuser", "testuser", "test@example.com", UserStatus.ACTIVE);
         registerRequest = new RegisterRequest("testuser", "password", "testname", "test@example.com");
@@ -65,10 +119,60 @@ public class AccountControllerTest {
                 .andExpect(jsonPath("$.email").value("test@example.com"));
     }
 
+    // 같은 Idempotency-Key 로 재시도하면 가입하지 않고 처음 결과를 반환
+    @Test
+    public void register_ShouldReplayResult_WhenIdempotencyKeyIsRepeated() throws Exception {
+        when(accountService.register(registerRequest)).thenReturn(accountResponse);
+        String body = "{\"ids\":\"testuser\",\"password\":\"password\",\"name\":\"testname\",\"email\":\"test@example.com\"}";
+
+        mockMvc.perform(post("/accounts/register").header("Idempotency-Key", "key-1")
+                        .contentType("application/json").content(body))
+                .andExpect(status().isCreated())
+                .andExpect(header().string("Idempotent-Replayed", "false"));
+        mockMvc.perform(post("/accounts/register").header("Idempotency-Key", "key-1")
+                        .contentType("application/json").content(body))
+                .andExpect(status().isCreated())
+                .andExpect(header().string("Idempotent-Replayed", "true"))
+                .andExpect(jsonPath("$.ids").value("testuser"));
+
+        verify(accountService, times(1)).register(registerRequest);
+    }
+
+    @Test
+    public void register_ShouldReturnUnprocessable_WhenIdempotencyKeyIsReusedForOtherRequest() throws Exception {
+        when(accountService.register(any())).thenReturn(accountResponse);
+
+        mockMvc.perform(post("/accounts/register").header("Idempotency-Key", "key-1").contentType("application/json")
+                        .content("{\"ids\":\"testuser\",\"password\":\"password\",\"name\":\"testname\",\"email\":\"test@example.com\"}"))
+                .andExpect(status().isCreated());
+        mockMvc.perform(post("/accounts/register").header("Idempotency-Key", "key-1").contentType("application/json")
+                        .content("{\"ids\":\"otheruser\",\"password\":\"password\",\"name\":\"testname\",\"email\":\"test@example.com\"}"))
+                .andExpect(status().isUnprocessableEntity());
+
+        verify(accountService, times(1)).register(any());
+    }
+
+    // 일괄 회원가입 테스트
+    @Test
+    public void registerAll_ShouldReturnResultPerRow() throws Exception {
+        BulkRegisterResponse response = new BulkRegisterResponse(1, 1, List.of(
+                new BulkRegisterResult("testuser", BulkRegisterStatus.CREATED, accountResponse),
+                new BulkRegisterResult("testuser", BulkRegisterStatus.DUPLICATE, null)));
+        when(accountService.registerAll(List.of(registerRequest, registerRequest))).thenReturn(response);
+
+        mockMvc.perform(post("/accounts/bulk")
+                        .contentType("application/json")
+                        .content(jacksonObjectMapper.writeValueAsString(List.of(registerRequest, registerRequest))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.created").value(1))
+                .andExpect(jsonPath("$.results[0].status").value("CREATED"))
+                .andExpect(jsonPath("$.results[1].status").value("DUPLICATE"));
+    }
+
     // 로그인 테스트
     @Test
     public void login_ShouldReturnAccountResponse() throws Exception {
-        when(accountService.login(loginRequest)).thenReturn(accountResponse);
+        when(accountService.login(loginRequest)).thenReturn(Optional.of(accountResponse));
 
         mockMvc.perform(post("/accounts/login")
                         .contentType("application/json")
@@ -81,7 +185,7 @@ public class AccountControllerTest {
     @Test
     public void login_ShouldReturnUnauthorized() throws Exception {
         LoginRequest loginRequest = new LoginRequest("testuser", "wrongpassword");
-        when(accountService.login(loginRequest)).thenThrow(new IllegalArgumentException("잘못된 아이디 또는 비밀번호"));
+        when(accountService.login(loginRequest)).thenReturn(Optional.empty());
 
         mockMvc.perform(post("/accounts/login")
                         .contentType("application/json")
@@ -90,17 +194,297 @@ public class AccountControllerTest {
                 .andExpect(status().isUnauthorized());
     }
 
+    // 해싱 대기열이 가득 차면 503 + Retry-After
+    @Test
+    public void login_ShouldReturnServiceUnavailable_WhenHashingIsBusy() throws Exception {
+        when(accountService.login(loginRequest)).thenThrow(new PasswordHashingBusyException());
+
+        mockMvc.perform(post("/accounts/login")
+                        .contentType("application/json")
+                        .content("{\"ids\":\"testuser\",\"password\":\"password\"}"))
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(header().string("Retry-After", "1"));
+    }
+
+    // 시도 제한에 걸리면 로그인 처리 없이 429
+    @Test
+    public void login_ShouldReturnTooManyRequests_WhenThrottled() throws Exception {
+        when(loginRateLimiter.acquire(eq("testuser"), any())).thenReturn(Duration.ofMillis(1500));
+
+        mockMvc.perform(post("/accounts/login")
+                        .contentType("application/json")
+                        .content("{\"ids\":\"testuser\",\"password\":\"password\"}"))
+                .andExpect(status().isTooManyRequests())
+                .andExpect(header().string("Retry-After", "2"));
+
+        verify(accountService, never()).login(any());
+    }
+
     // 모든 계정 조회 테스트
     @Test
     public void getAllAccounts_ShouldReturnAccountList() throws Exception {
+        when(accountService.getAccountsVersion()).thenReturn(new AccountsVersion(1L, 1L, 0L));
         when(accountService.getAllAccounts()).thenReturn(Arrays.asList(accountResponse));
 
         mockMvc.perform(get("/accounts/all"))
                 .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"1-1-0\""))
                 .andExpect(jsonPath("$[0].ids").value("testuser"))
                 .andExpect(jsonPath("$[0].email").value("test@example.com"));
     }
 
+    // 목록이 바뀌지 않았으면 조회 없이 304
+    @Test
+    public void getAllAccounts_ShouldReturnNotModified() throws Exception {
+        when(accountService.getAccountsVersion()).thenReturn(new AccountsVersion(1L, 1L, 0L));
+
+        mockMvc.perform(get("/accounts/all").header("If-None-Match", "\"1-1-0\""))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+
+        verify(accountService, never()).getAllAccounts();
+    }
+
+    // 계정 페이지 조회 테스트
+    @Test
+    public void getAccountsAfter_ShouldReturnPage() throws Exception {
+        when(accountService.getAccountsVersion()).thenReturn(new AccountsVersion(1L, 1L, 0L));
+        when(accountService.getAccountsAfter(0L, 10)).thenReturn(new AccountPageResponse(List.of(accountResponse), 1L));
+
+        mockMvc.perform(get("/accounts/all?after=0&size=10"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"1-1-0\""))
+                .andExpect(jsonPath("$.accounts[0].ids").value("testuser"))
+                .andExpect(jsonPath("$.nextCursor").value(1));
+    }
+
+    @Test
+    public void getAccountsAfter_ShouldReturnNotModified() throws Exception {
+        when(accountService.getAccountsVersion()).thenReturn(new AccountsVersion(1L, 1L, 0L));
+
+        mockMvc.perform(get("/accounts/all?after=0&size=10").header("If-None-Match", "\"1-1-0\""))
+                .andExpect(status().isNotModified());
+
+        verify(accountService, never()).getAccountsAfter(anyLong(), any());
+    }
+
+    // 계정 검색 테스트
+    @Test
+    public void searchAccounts_ShouldReturnPage() throws Exception {
+        when(accountService.searchAccounts("test", null, UserStatus.ACTIVE, null, 10))
+                .thenReturn(new AccountSearchResponse(List.of(accountResponse), "next"));
+
+        mockMvc.perform(get("/accounts/search?name=test&status=active&size=10"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.accounts[0].ids").value("testuser"))
+                .andExpect(jsonPath("$.nextCursor").value("next"));
+    }
+
+    @Test
+    public void searchAccounts_ShouldReturnBadRequest_WhenStatusIsInvalid() throws Exception {
+        mockMvc.perform(get("/accounts/search?status=unknown"))
+                .andExpect(status().isBadRequest());
+
+        verify(accountService, never()).searchAccounts(any(), any(), any(), any(), any());
+    }
+
+    // 모든 계정 NDJSON 스트리밍 테스트
+    @Test
+    @SuppressWarnings("unchecked")
+    public void streamAllAccounts_ShouldWriteOneLinePerAccount() throws Exception {
+        doAnswer(invocation -> {
+            Consumer<AccountResponse> consumer = invocation.getArgument(0);
+            consumer.accept(accountResponse);
+            consumer.accept(accountResponse);
+            return null;
+        }).when(accountService).streamAllAccounts(any());
+
+        MvcResult result = mockMvc.perform(get("/accounts/all").accept("application/x-ndjson"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType("application/x-ndjson"))
+                .andExpect(content().string(objectMapper.writeValueAsString(accountResponse) + "\n"
+                        + objectMapper.writeValueAsString(accountResponse) + "\n"));
+    }
+
+    // 계정 내보내기 테스트 (CSV, 쉼표가 있는 값은 따옴표로)
+    @Test
+    public void exportAccounts_ShouldWriteCsv() throws Exception {
+        doAnswer(invocation -> {
+            Consumer<AccountExportRow> consumer = invocation.getArgument(0);
+            consumer.accept(new AccountExportRow("testuser", "{bcrypt}hash", "Kim, \"T\"", "test@example.com", UserStatus.ACTIVE,
+                    Instant.parse("2026-01-01T00:00:00Z")));
+            consumer.accept(new AccountExportRow("testuser2", "{bcrypt}hash2", "testname", "test2@example.com", null, null));
+            return null;
+        }).when(accountService).exportAccounts(any());
+
+        MvcResult result = mockMvc.perform(get("/accounts/export?format=csv"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType("text/csv"))
+                .andExpect(header().string("Content-Disposition", "attachment; filename=\"accounts.csv\""))
+                .andExpect(content().string("ids,password,name,email,status,last_login_at\n"
+                        + "testuser,{bcrypt}hash,\"Kim, \"\"T\"\"\",test@example.com,ACTIVE,2026-01-01T00:00:00Z\n"
+                        + "testuser2,{bcrypt}hash2,testname,test2@example.com,,\n"));
+    }
+
+    // 계정 내보내기 테스트 (NDJSON, 지원하지 않는 형식은 400)
+    @Test
+    public void exportAccounts_ShouldWriteNdjson() throws Exception {
+        AccountExportRow row = new AccountExportRow("testuser", "{bcrypt}hash", "testname", "test@example.com", UserStatus.ACTIVE, null);
+        doAnswer(invocation -> {
+            invocation.<Consumer<AccountExportRow>>getArgument(0).accept(row);
+            return null;
+        }).when(accountService).exportAccounts(any());
+
+        MvcResult result = mockMvc.perform(get("/accounts/export"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType("application/x-ndjson"))
+                .andExpect(content().string(objectMapper.writeValueAsString(row) + "\n"));
+
+        mockMvc.perform(get("/accounts/export?format=xml"))
+                .andExpect(status().isBadRequest());
+    }
+
+    // 계정 가져오기 테스트 (읽은 행을 서비스에 넘기고 청크마다 결과를 한 줄씩)
+    @Test
+    public void importAccounts_ShouldStreamProgressPerChunk() throws Exception {
+        List<AccountExportRow> received = new ArrayList<>();
+        doAnswer(invocation -> {
+            invocation.<Iterator<AccountExportRow>>getArgument(0).forEachRemaining(received::add);
+            Consumer<AccountImportProgress> progress = invocation.getArgument(1);
+            progress.accept(new AccountImportProgress(1, 1, 1, 0, 2));
+            progress.accept(new AccountImportProgress(2, 0, 0, 1, 3));
+            return null;
+        }).when(accountService).importAccounts(any(), any());
+
+        MvcResult result = mockMvc.perform(post("/accounts/import")
+                        .contentType("text/csv")
+                        .content("ids,password,name,email,status,last_login_at\r\n"
+                                + "testuser,{bcrypt}hash,\"multi\nline\",test@example.com,DORMANT,2026-01-01T00:00:00Z\r\n"
+                                + "\r\n"
+                                + "testuser2,{bcrypt}hash2,testname,test2@example.com,,\r\n"
+                                + "testuser3,,testname,test3@example.com,,\r\n"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType("application/x-ndjson"))
+                .andExpect(content().string("{\"chunk\":1,\"created\":1,\"duplicates\":1,\"invalid\":0,\"rows\":2}\n"
+                        + "{\"chunk\":2,\"created\":0,\"duplicates\":0,\"invalid\":1,\"rows\":3}\n"));
+        assertEquals(List.of(
+                new AccountExportRow("testuser", "{bcrypt}hash", "multi\nline", "test@example.com", UserStatus.DORMANT,
+                        Instant.parse("2026-01-01T00:00:00Z")),
+                new AccountExportRow("testuser2", "{bcrypt}hash2", "testname", "test2@example.com", null, null),
+                new AccountExportRow("testuser3", null, "testname", "test3@example.com", null, null)), received);
+    }
+
+    // 계정 가져오기 테스트 (헤더가 다르면 400, 형식이 틀린 줄을 만나면 오류를 마지막 줄로)
+    @Test
+    public void importAccounts_ShouldReportMalformedInput() throws Exception {
+        mockMvc.perform(post("/accounts/import").contentType("text/csv").content("id,ids\n1,testuser\n"))
+                .andExpect(status().isBadRequest());
+
+        doAnswer(invocation -> {
+            Iterator<AccountExportRow> rows = invocation.getArgument(0);
+            rows.next();
+            invocation.<Consumer<AccountImportProgress>>getArgument(1).accept(new AccountImportProgress(1, 1, 0, 0, 1));
+            rows.next();
+            return null;
+        }).when(accountService).importAccounts(any(), any());
+
+        MvcResult result = mockMvc.perform(post("/accounts/import")
+                        .contentType("application/x-ndjson")
+                        .content("{\"ids\":\"testuser\",\"password\":\"{bcrypt}hash\",\"name\":\"testname\",\"email\":\"test@example.com\"}\n"
+                                + "{not json}\n"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        String body = mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString(StandardCharsets.UTF_8);
+        assertThat(body, startsWith(
+                "{\"chunk\":1,\"created\":1,\"duplicates\":0,\"invalid\":0,\"rows\":1}\n{\"error\":\"2번째 줄: "));
+    }
+
+    // 계정 가져오기 테스트 (컬럼 길이를 넘는 값은 저장 전에 오류 줄로)
+    @Test
+    public void importAccounts_ShouldReportTooLongValue() throws Exception {
+        doAnswer(invocation -> {
+            invocation.<Iterator<AccountExportRow>>getArgument(0).forEachRemaining(row -> { });
+            return null;
+        }).when(accountService).importAccounts(any(), any());
+
+        MvcResult result = mockMvc.perform(post("/accounts/import")
+                        .contentType("text/csv")
+                        .content("ids,password,name,email,status,last_login_at\n"
+                                + "testuser,{bcrypt}hash," + "a".repeat(Account.NAME_LENGTH + 1) + ",test@example.com,,\n"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        String body = mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString(StandardCharsets.UTF_8);
+        assertEquals("{\"error\":\"1번째 행: name 은(는) " + Account.NAME_LENGTH + "자까지 가능합니다.\"}\n", body);
+    }
+
+    // 계정 가져오기 테스트 (청크 저장이 DB 오류로 실패하면 저장된 청크까지 보내고 오류 줄로 끝냄)
+    @Test
+    public void importAccounts_ShouldReportFailedChunk_WhenSaveFails() throws Exception {
+        doAnswer(invocation -> {
+            invocation.<Consumer<AccountImportProgress>>getArgument(1).accept(new AccountImportProgress(1, 1, 0, 0, 1));
+            throw new DataIntegrityViolationException("constraint violation");
+        }).when(accountService).importAccounts(any(), any());
+
+        MvcResult result = mockMvc.perform(post("/accounts/import")
+                        .contentType("application/x-ndjson")
+                        .content("{\"ids\":\"testuser\",\"password\":\"{bcrypt}hash\",\"name\":\"testname\",\"email\":\"test@example.com\"}\n"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        String body = mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString(StandardCharsets.UTF_8);
+        assertEquals("{\"chunk\":1,\"created\":1,\"duplicates\":0,\"invalid\":0,\"rows\":1}\n"
+                + "{\"error\":\"2번째 청크를 저장하지 못했습니다.\"}\n", body);
+    }
+
+    // 계정 변경 조회 테스트
+    @Test
+    public void getChanges_ShouldReturnPage() throws Exception {
+        AccountChangeResponse change = new AccountChangeResponse(7L, 1L, "testuser", null, AccountChangeType.UPDATED,
+                Instant.parse("2026-01-01T00:00:00Z"));
+        when(changeFeed.getChangesAfter(5L, null)).thenReturn(new AccountChangePageResponse(List.of(change), 7L));
+
+        mockMvc.perform(get("/accounts/changes?after=5"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.changes[0].ids").value("testuser"))
+                .andExpect(jsonPath("$.changes[0].type").value("UPDATED"))
+                .andExpect(jsonPath("$.nextCursor").value(7));
+    }
+
+    // 다시 연결하면 Last-Event-ID 이후부터
+    @Test
+    public void streamChanges_ShouldResumeFromLastEventId() throws Exception {
+        when(changeFeed.subscribe(anyLong())).thenReturn(new SseEmitter());
+
+        mockMvc.perform(get("/accounts/changes?after=3").accept("text/event-stream").header("Last-Event-ID", "9"))
+                .andExpect(request().asyncStarted());
+
+        verify(changeFeed).subscribe(9L);
+    }
+
 //    // 아이디로 계정 조회 테스트
 //    @Test
 //    public void getAccountByIds_ShouldReturnAccount() throws Exception {
@@ -116,7 +500,7 @@ public class AccountControllerTest {
     public void getAccountByIds_success() throws Exception {
         // Mock 데이터
         String ids = "test123";
-        AuthenticationResponse response = new AuthenticationResponse(ids, "password123", "Test User", "test@example.com");
+        AuthenticationResponse response = new AuthenticationResponse(ids, "password123", "Test User", "test@example.com", 1L, 2L);
 
         // Service 레이어 모킹
         when(accountService.authenticateLogin(ids)).thenReturn(response);
@@ -125,10 +509,37 @@ public class AccountControllerTest {
         mockMvc.perform(get("/accounts/{ids}", ids)
                         .contentType(MediaType.APPLICATION_JSON))
                 .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"1-2\""))
                 .andExpect(jsonPath("$.ids").value(ids))
                 .andExpect(jsonPath("$.password").value("password123"))
                 .andExpect(jsonPath("$.name").value("Test User"))
-                .andExpect(jsonPath("$.email").value("test@example.com"));
+                .andExpect(jsonPath("$.email").value("test@example.com"))
+                .andExpect(jsonPath("$.id").doesNotExist())
+                .andExpect(jsonPath("$.version").doesNotExist());
+    }
+
+    // 게이트웨이가 비교하는 BCrypt 해시는 {bcrypt} 접두사 없이
+    @Test
+    public void getAccountByIds_ShouldReturnHashWithoutEncodingPrefix() throws Exception {
+        String hash = "$2a$10$N9qo8uLOickgx2ZMRZoMyeIjZAgcfl7p92ldGxad68LJZdL17lhWy";
+        when(accountService.authenticateLogin("test123"))
+                .thenReturn(new AuthenticationResponse("test123", "{bcrypt}" + hash, "Test User", "test@example.com", 1L, 2L));
+
+        mockMvc.perform(get("/accounts/{ids}", "test123"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.password").value(hash));
+    }
+
+    // 캐시된 정보의 ETag 와 같으면 본문 없이 304
+    @Test
+    public void getAccountByIds_notModified() throws Exception {
+        String ids = "test123";
+        AuthenticationResponse response = new AuthenticationResponse(ids, "password123", "Test User", "test@example.com", 1L, 2L);
+        when(accountService.authenticateLogin(ids)).thenReturn(response);
+
+        mockMvc.perform(get("/accounts/{ids}", ids).header("If-None-Match", "\"1-2\""))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
     }
 
 
@@ -156,6 +567,30 @@ public class AccountControllerTest {
     }
 
 
+    // 여러 아이디 한번에 조회 테스트
+    @Test
+    public void lookupAccounts_ShouldReturnAccountsAndMissing() throws Exception {
+        when(accountService.lookupAccounts(List.of("testuser", "unknown")))
+                .thenReturn(new AccountLookupResponse(java.util.Map.of("testuser", accountResponse), List.of("unknown")));
+
+        mockMvc.perform(post("/accounts/lookup")
+                        .contentType("application/json")
+                        .content("{\"ids\":[\"testuser\",\"unknown\"]}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.accounts.testuser.email").value("test@example.com"))
+                .andExpect(jsonPath("$.missing[0]").value("unknown"));
+    }
+
+    @Test
+    public void lookupAccounts_ShouldReturnBadRequest_WhenTooManyIds() throws Exception {
+        when(accountService.lookupAccounts(anyList())).thenThrow(new IllegalArgumentException("too many"));
+
+        mockMvc.perform(post("/accounts/lookup")
+                        .contentType("application/json")
+                        .content("{\"ids\":[\"a\",\"b\"]}"))
+                .andExpect(status().isBadRequest());
+    }
+
     // 회원 정보 수정 테스트
     @Test
     public void updateAccount_ShouldUpdateAccount() throws Exception {
@@ -180,6 +615,69 @@ public class AccountControllerTest {
     }
 
     // 회원 상태 변경 테스트
+    // 회원 정보 부분 수정 테스트
+    @Test
+    public void patchAccount_ShouldReturnNewETag() throws Exception {
+        AccountPatchRequest request = new AccountPatchRequest(null, null, "새이름", null, 3L);
+        when(accountService.patchAccount(1L, request)).thenReturn(4L);
+
+        mockMvc.perform(patch("/accounts/1")
+                        .contentType("application/json")
+                        .content("{\"name\":\"새이름\",\"version\":3}"))
+                .andExpect(status().isNoContent())
+                .andExpect(header().string("ETag", "\"1-4\""));
+    }
+
+    @Test
+    public void patchAccount_ShouldReturnBadRequest_WhenVersionIsMissing() throws Exception {
+        mockMvc.perform(patch("/accounts/1")
+                        .contentType("application/json")
+                        .content("{\"name\":\"새이름\"}"))
+                .andExpect(status().isBadRequest());
+
+        verify(accountService, never()).patchAccount(anyLong(), any());
+    }
+
+    @Test
+    public void patchAccount_ShouldReturnBadRequest_WhenValueIsBlank() throws Exception {
+        for (String content : List.of("{\"password\":\"\",\"version\":0}", "{\"ids\":\" \",\"version\":0}",
+                "{\"name\":\"\",\"version\":0}", "{\"name\":\"새이름\",\"email\":\"  \",\"version\":0}")) {
+            mockMvc.perform(patch("/accounts/1")
+                            .contentType("application/json")
+                            .content(content))
+                    .andExpect(status().isBadRequest());
+        }
+
+        verify(accountService, never()).patchAccount(anyLong(), any());
+    }
+
+    @Test
+    public void patchAccount_ShouldReturnConflict_WhenVersionIsStale() throws Exception {
+        when(accountService.patchAccount(eq(1L), any())).thenThrow(new AccountVersionConflictException());
+
+        mockMvc.perform(patch("/accounts/1")
+                        .contentType("application/json")
+                        .content("{\"name\":\"새이름\",\"version\":0}"))
+                .andExpect(status().isConflict());
+    }
+
+    @Test
+    public void updateStatus_ShouldReturnConflict_WhenUpdatedConcurrently() throws Exception {
+        when(accountService.updateStatus(1L, UserStatus.DORMANT))
+                .thenThrow(new ObjectOptimisticLockingFailureException(Account.class, 1L));
+
+        mockMvc.perform(put("/accounts/1/status?status=DORMANT"))
+                .andExpect(status().isConflict());
+    }
+
+    @Test
+    public void deleteAccount_ShouldReturnConflict_WhenUpdatedConcurrently() throws Exception {
+        doThrow(new ObjectOptimisticLockingFailureException(Account.class, 1L)).when(accountService).deleteAccount(1L);
+
+        mockMvc.perform(delete("/accounts/1"))
+                .andExpect(status().isConflict());
+    }
+
     @Test
     public void updateStatus_ShouldUpdateStatus() throws Exception {
         when(accountService.updateStatus(1L, UserStatus.ACTIVE)).thenReturn(accountResponse);
@@ -0,0 +1,47 @@
+package main.accountapi.controller;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 게이트웨이(127.0.0.1, 신뢰하는 프록시)를 거친 로그인은 X-Forwarded-For 의 클라이언트 주소별로 시도 제한
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "spring.datasource.url=jdbc:h2:mem:forwarded-address",
+        "account.login.throttle.ids-capacity=100",
+        "account.login.throttle.address-capacity=2",
+        "account.password.bcrypt.strength=4"
+})
+public class LoginForwardedAddressTest {
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @Test
+    public void login_ShouldThrottlePerForwardedClient_NotPerGateway() {
+        // 같은 클라이언트는 2번 뒤에 막힘
+        assertThat(login("203.0.113.1", "user1").getStatusCode()).isEqualTo(HttpStatus.UNAUTHORIZED);
+        assertThat(login("203.0.113.1", "user2").getStatusCode()).isEqualTo(HttpStatus.UNAUTHORIZED);
+        assertThat(login("203.0.113.1", "user3").getStatusCode()).isEqualTo(HttpStatus.TOO_MANY_REQUESTS);
+
+        // 같은 게이트웨이를 거쳐도 다른 클라이언트는 따로 계산
+        assertThat(login("203.0.113.2", "user4").getStatusCode()).isEqualTo(HttpStatus.UNAUTHORIZED);
+        // 게이트웨이가 앞에 붙인 주소(위조 가능)가 아니라 게이트웨이가 직접 받은 주소(맨 오른쪽)를 사용
+        assertThat(login("198.51.100.9, 203.0.113.1", "user5").getStatusCode()).isEqualTo(HttpStatus.TOO_MANY_REQUESTS);
+    }
+
+    private ResponseEntity<String> login(String forwardedFor, String ids) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        headers.set("X-Forwarded-For", forwardedFor);
+        return restTemplate.postForEntity("/accounts/login",
+                new HttpEntity<>("{\"ids\":\"" + ids + "\",\"password\":\"password\"}", headers), String.class);
+    }
+}
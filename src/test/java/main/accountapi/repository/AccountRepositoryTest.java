@@ -1,13 +1,30 @@
 package main.accountapi.repository;
 
+import main.accountapi.model.dto.AccountCredentials;
+import main.accountapi.model.dto.AccountExportRow;
+import main.accountapi.model.dto.AccountResponse;
+import main.accountapi.model.dto.AccountSearchCursor;
+import main.accountapi.model.dto.AccountsVersion;
+import main.accountapi.model.dto.AuthenticationResponse;
 import main.accountapi.model.entity.Account;
 import main.accountapi.model.UserStatus;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 @DataJpaTest
 public class AccountRepositoryTest {
@@ -15,6 +32,9 @@ public class AccountRepositoryTest {
     @Autowired
     private AccountRepository accountRepository;
 
+    @Autowired
+    private TestEntityManager entityManager;
+
     private Account account;
 
     @BeforeEach
@@ -68,4 +88,183 @@ public class AccountRepositoryTest {
 
         assertThat(foundAccount).isNull(); // "nonexistentuser" 아이디로 조회된 계정이 없으면 null
     }
+
+    @Test
+    public void testFindAccountsAfter() {
+        Account second = new Account();
+        second.setIds("testuser2");
+        second.setPassword("password123");
+        second.setName("Test User2");
+        second.setEmail("testuser2@example.com");
+        second.setStatus(UserStatus.ACTIVE);
+        accountRepository.save(second);
+
+        List<AccountResponse> firstPage = accountRepository.findAccountsAfter(0L, Limit.of(1));
+        List<AccountResponse> secondPage = accountRepository.findAccountsAfter(firstPage.get(0).id(), Limit.of(1));
+
+        assertThat(firstPage).extracting(AccountResponse::ids).containsExactly("testuser");
+        assertThat(secondPage).extracting(AccountResponse::ids).containsExactly("testuser2"); // 커서 이후 계정만 조회
+    }
+
+    @Test
+    public void testSearchAccounts() {
+        for (String name : List.of("kim_a", "kimb", "kim%c", "lee")) {
+            Account other = new Account();
+            other.setIds(name + "-ids");
+            other.setPassword("password123");
+            other.setName(name);
+            other.setEmail(name + "@example.com");
+            other.setStatus(name.equals("kimb") ? UserStatus.INACTIVE : UserStatus.ACTIVE);
+            accountRepository.save(other);
+        }
+
+        // 이름 순으로 정렬, 커서 이후부터 이어서 조회
+        List<AccountResponse> firstPage = accountRepository.searchAccounts("kim", null, null, null, 2);
+        List<AccountResponse> secondPage = accountRepository.searchAccounts("kim", null, null,
+                AccountSearchCursor.of(firstPage.get(1), "kim", null), 2);
+
+        assertThat(firstPage).extracting(AccountResponse::name).containsExactly("kim%c", "kim_a");
+        assertThat(secondPage).extracting(AccountResponse::name).containsExactly("kimb");
+
+        // %, _ 는 글자 그대로 비교
+        assertThat(accountRepository.searchAccounts("kim_", null, null, null, 10))
+                .extracting(AccountResponse::name).containsExactly("kim_a");
+        assertThat(accountRepository.searchAccounts(null, "kim%", null, null, 10))
+                .extracting(AccountResponse::name).containsExactly("kim%c");
+
+        // 조건은 and 로 묶임
+        assertThat(accountRepository.searchAccounts("kim", null, UserStatus.INACTIVE, null, 10))
+                .extracting(AccountResponse::name).containsExactly("kimb");
+        assertThat(accountRepository.searchAccounts(null, null, UserStatus.ACTIVE,
+                new AccountSearchCursor(null, account.getId()), 10))
+                .extracting(AccountResponse::name).containsExactly("kim_a", "kim%c", "lee");
+    }
+
+    @Test
+    public void testStreamAllAccounts() {
+        try (Stream<AccountResponse> accounts = accountRepository.streamAllAccounts()) {
+            assertThat(accounts).extracting(AccountResponse::ids).containsExactly("testuser");
+        }
+    }
+
+    @Test
+    public void testFindExistingIds() {
+        Set<String> existingIds = accountRepository.findExistingIds(List.of("testuser", "nonexistentuser"));
+
+        assertThat(existingIds).containsExactly("testuser"); // 가입된 아이디만 조회
+    }
+
+    @Test
+    public void testSaveDuplicateIds() {
+        Account duplicate = new Account();
+        duplicate.setIds("testuser");
+        duplicate.setPassword("password456");
+        duplicate.setName("Other User");
+        duplicate.setEmail("other@example.com");
+        duplicate.setStatus(UserStatus.ACTIVE);
+
+        // 같은 아이디는 유니크 인덱스에 걸림
+        assertThatThrownBy(() -> accountRepository.saveAndFlush(duplicate))
+                .isInstanceOf(DataIntegrityViolationException.class)
+                .hasMessageContaining("UK_USERS_IDS");
+    }
+
+    @Test
+    public void testProjectionsByIds() {
+        // 엔티티 없이 필요한 컬럼만 응답 레코드로 조회
+        assertThat(accountRepository.findAccountResponseByIds("testuser"))
+                .contains(new AccountResponse(account.getId(), "testuser", "Test User", "testuser@example.com", UserStatus.ACTIVE));
+        assertThat(accountRepository.findAuthenticationByIds("testuser"))
+                .contains(new AuthenticationResponse("testuser", "password123", "Test User", "testuser@example.com", account.getId(), 0L));
+        assertThat(accountRepository.findCredentialsByIds("testuser"))
+                .contains(new AccountCredentials(account.getId(), "testuser", "password123", "Test User", "testuser@example.com", UserStatus.ACTIVE));
+        assertThat(accountRepository.findAuthenticationByIds("nonexistentuser")).isEmpty();
+    }
+
+    @Test
+    public void testUpdatePassword() {
+        int updated = accountRepository.updatePassword(account.getId(), "newHash");
+        entityManager.clear(); // 자연 키 조회는 엔티티를 읽으므로 영속성 컨텍스트의 수정 전 엔티티를 비움
+
+        assertThat(updated).isEqualTo(1);
+        assertThat(accountRepository.findCredentialsByIds("testuser")).get()
+                .extracting(AccountCredentials::password).isEqualTo("newHash");
+        assertThat(accountRepository.findAuthenticationByIds("testuser")).get()
+                .extracting(AuthenticationResponse::version).isEqualTo(1L); // ETag 가 바뀌도록 version 증가
+    }
+
+    @Test
+    public void testFindAccountsVersion() {
+        AccountsVersion before = accountRepository.findAccountsVersion();
+        assertThat(before).isEqualTo(new AccountsVersion(1L, account.getId(), 0L));
+
+        // 수정하면 version 합계가 바뀜
+        account.setName("Renamed User");
+        accountRepository.saveAndFlush(account);
+
+        assertThat(accountRepository.findAccountsVersion()).isEqualTo(new AccountsVersion(1L, account.getId(), 1L));
+    }
+
+    @Test
+    public void testFindAccountResponsesByIdsIn() {
+        List<AccountResponse> accounts = accountRepository.findAccountResponsesByIdsIn(List.of("testuser", "nonexistentuser"));
+
+        assertThat(accounts).extracting(AccountResponse::ids).containsExactly("testuser"); // 있는 아이디만 조회
+    }
+
+    @Test
+    public void testUpdateFields() {
+        // 보낸 컬럼만 바뀌고 version 이 올라감
+        int updated = accountRepository.updateFields(account.getId(), 0L, null, null, "Renamed User", null);
+        entityManager.clear(); // 자연 키 조회는 엔티티를 읽으므로 영속성 컨텍스트의 수정 전 엔티티를 비움
+
+        assertThat(updated).isEqualTo(1);
+        assertThat(accountRepository.findAuthenticationByIds("testuser")).contains(
+                new AuthenticationResponse("testuser", "password123", "Renamed User", "testuser@example.com", account.getId(), 1L));
+
+        // 이미 지난 version 으로는 수정되지 않음
+        assertThat(accountRepository.updateFields(account.getId(), 0L, null, null, "Stale User", null)).isZero();
+    }
+
+    @Test
+    public void testFindIdsById() {
+        assertThat(accountRepository.findIdsById(account.getId())).contains("testuser");
+        assertThat(accountRepository.findIdsById(account.getId() + 1)).isEmpty();
+    }
+
+    @Test
+    public void testUpdateLastLoginAt() {
+        Instant loginAt = Instant.parse("2026-01-01T00:00:00.123456Z");
+        entityManager.flush(); // JDBC 로 update 하기 전에 insert 반영
+        accountRepository.updateLastLoginAt(Map.of(account.getId(), loginAt));
+        // 이전 시각으로는 덮어쓰지 않음
+        accountRepository.updateLastLoginAt(Map.of(account.getId(), loginAt.minusSeconds(60)));
+        entityManager.clear();
+
+        Account found = accountRepository.findById(account.getId()).orElseThrow();
+        assertThat(found.getLastLoginAt()).isEqualTo(loginAt);
+        assertThat(found.getVersion()).isZero(); // 버전은 그대로
+    }
+
+    @Test
+    public void testExportAccounts() {
+        Instant loginAt = Instant.parse("2026-01-01T00:00:00.123456Z");
+        account.setLastLoginAt(loginAt);
+        Account second = new Account();
+        second.setIds("testuser2");
+        second.setPassword("{bcrypt}hash");
+        second.setName("Test User2");
+        second.setEmail("testuser2@example.com");
+        second.setStatus(UserStatus.DORMANT);
+        accountRepository.save(second);
+        entityManager.flush(); // JDBC 로 읽기 전에 insert 반영
+
+        List<AccountExportRow> rows = new ArrayList<>();
+        accountRepository.exportAccounts(rows::add);
+
+        // id 순, 비밀번호 해시와 마지막 로그인 시각까지
+        assertThat(rows).containsExactly(
+                new AccountExportRow("testuser", "password123", "Test User", "testuser@example.com", UserStatus.ACTIVE, loginAt),
+                new AccountExportRow("testuser2", "{bcrypt}hash", "Test User2", "testuser2@example.com", UserStatus.DORMANT, null));
+    }
 }
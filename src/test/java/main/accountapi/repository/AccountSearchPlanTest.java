@@ -0,0 +1,92 @@
+package main.accountapi.repository;
+
+import main.accountapi.model.UserStatus;
+import main.accountapi.model.dto.AccountSearchCursor;
+import main.accountapi.model.entity.Account;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 검색 조건마다 Hibernate 가 만든 SQL 을 그대로 EXPLAIN 해서 인덱스를 타는지 확인
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.session_factory.statement_inspector=" +
+        "main.accountapi.repository.AccountSearchPlanTest$SqlCapture")
+public class AccountSearchPlanTest {
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    public void setUp() {
+        List<Account> accounts = new ArrayList<>();
+        for (int i = 0; i < 300; i++) {
+            UserStatus status = UserStatus.values()[i % UserStatus.values().length];
+            accounts.add(new Account(0L, "user" + i, "password", "name" + i, "user" + i + "@example.com", status, null, 0L));
+        }
+        accountRepository.saveAllAndFlush(accounts);
+        SqlCapture.statements.clear();
+    }
+
+    @Test
+    public void searchByNamePrefix_ShouldUseNameIndex() {
+        accountRepository.searchAccounts("name1", null, null, null, 10);
+
+        assertThat(explainLast()).contains("PUBLIC.IX_USERS_NAME").contains("index sorted").doesNotContain("tableScan");
+    }
+
+    @Test
+    public void searchByNamePrefixAfterCursor_ShouldUseNameIndex() {
+        accountRepository.searchAccounts("name1", null, null, new AccountSearchCursor("name15", 16L), 10);
+
+        assertThat(explainLast()).contains("PUBLIC.IX_USERS_NAME").contains("index sorted").doesNotContain("tableScan");
+    }
+
+    @Test
+    public void searchByEmailPrefix_ShouldUseEmailIndex() {
+        accountRepository.searchAccounts(null, "user1", null, new AccountSearchCursor("user15@example.com", 16L), 10);
+
+        assertThat(explainLast()).contains("PUBLIC.IX_USERS_EMAIL").contains("index sorted").doesNotContain("tableScan");
+    }
+
+    @Test
+    public void searchByStatus_ShouldUseStatusIndex() {
+        accountRepository.searchAccounts(null, null, UserStatus.DORMANT, new AccountSearchCursor(null, 100L), 10);
+
+        assertThat(explainLast()).contains("PUBLIC.IX_USERS_STATUS").doesNotContain("tableScan");
+    }
+
+    @Test
+    public void searchByNamePrefixAndStatus_ShouldUseAnIndex() {
+        accountRepository.searchAccounts("name1", null, UserStatus.ACTIVE, null, 10);
+
+        assertThat(explainLast()).containsPattern("PUBLIC\\.IX_USERS_(NAME|STATUS)").doesNotContain("tableScan");
+    }
+
+    // 마지막으로 실행된 검색 쿼리의 실행 계획 (바인딩 값 없이, 실제 실행과 같은 조건으로 계획됨)
+    private String explainLast() {
+        String sql = SqlCapture.statements.get(SqlCapture.statements.size() - 1);
+        return String.join("\n", jdbcTemplate.queryForList("EXPLAIN " + sql, String.class));
+    }
+
+    // Hibernate 가 실행하는 SQL 을 기록
+    public static class SqlCapture implements StatementInspector {
+
+        static final List<String> statements = new ArrayList<>();
+
+        @Override
+        public String inspect(String sql) {
+            statements.add(sql);
+            return sql;
+        }
+    }
+}
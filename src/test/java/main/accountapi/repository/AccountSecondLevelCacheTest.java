@@ -0,0 +1,143 @@
+package main.accountapi.repository;
+
+import jakarta.persistence.EntityManagerFactory;
+import main.accountapi.model.UserStatus;
+import main.accountapi.model.dto.AccountPatchRequest;
+import main.accountapi.model.dto.AccountResponse;
+import main.accountapi.model.dto.RegisterRequest;
+import main.accountapi.model.entity.Account;
+import main.accountapi.service.AccountService;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 트랜잭션 없이 조회마다 새 영속성 컨텍스트를 써서 1차 캐시가 아닌 2차 캐시만으로 SQL 이 없는지 확인
+@SpringBootTest(properties = "account.password.bcrypt.strength=4")
+public class AccountSecondLevelCacheTest {
+
+    @Autowired
+    private AccountService accountService;
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @Autowired
+    private AccountChangeRepository changeRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Statistics statistics;
+
+    private AccountResponse account;
+
+    @BeforeEach
+    public void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        account = accountService.register(new RegisterRequest("cacheuser", "password123", "캐시", "cache@example.com"));
+    }
+
+    @AfterEach
+    public void tearDown() {
+        accountRepository.deleteAll();
+        changeRepository.deleteAll();
+    }
+
+    @Test
+    public void findAccountByIds_ShouldNotIssueSql_WhenRepeated() {
+        accountRepository.findAccountByIds("cacheuser"); // 캐시 채우기
+        statistics.clear();
+
+        for (int i = 0; i < 5; i++) {
+            assertThat(accountRepository.findAccountByIds("cacheuser").getName()).isEqualTo("캐시");
+        }
+        assertThat(accountRepository.existsAccountByIds("cacheuser")).isTrue();
+
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+        assertThat(statistics.getNaturalIdCacheHitCount()).isEqualTo(6);
+        assertThat(statistics.getSecondLevelCacheHitCount()).isEqualTo(6);
+    }
+
+    @Test
+    public void findAuthenticationAndCredentials_ShouldNotIssueSql_WhenCached() {
+        accountRepository.findAuthenticationByIds("cacheuser"); // 캐시 채우기
+        statistics.clear();
+
+        assertThat(accountRepository.findAuthenticationByIds("cacheuser")).get()
+                .satisfies(authentication -> assertThat(authentication.id()).isEqualTo(account.id()));
+        assertThat(accountRepository.findCredentialsByIds("cacheuser")).get()
+                .satisfies(credentials -> assertThat(credentials.name()).isEqualTo("캐시"));
+        assertThat(accountRepository.findCredentialsByIds("nobody")).isEmpty();
+
+        // 없는 아이디만 SQL 한번
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(statistics.getNaturalIdCacheHitCount()).isEqualTo(2);
+    }
+
+    @Test
+    public void evictCached_ShouldDropEntityAndNaturalId() {
+        accountRepository.findAccountByIds("cacheuser");
+        // 다른 인스턴스가 바꾼 것처럼 Hibernate 모르게 변경
+        jdbcTemplate.update("update users set ids = 'elsewhere', name = '다른곳' where id = ?", account.id());
+        assertThat(accountRepository.findAccountByIds("cacheuser").getName()).isEqualTo("캐시");
+
+        accountRepository.evictCached(account.id(), "cacheuser");
+
+        assertThat(accountRepository.findAccountByIds("cacheuser")).isNull();
+        assertThat(accountRepository.findAccountByIds("elsewhere").getName()).isEqualTo("다른곳");
+    }
+
+    @Test
+    public void updateStatus_ShouldCheckVersionAgainstPrimary_WhenCacheIsStale() {
+        accountRepository.findAccountByIds("cacheuser");
+        // 다른 인스턴스의 수정으로 캐시된 엔티티의 version 이 오래됨
+        jdbcTemplate.update("update users set version = version + 1, name = '다른곳' where id = ?", account.id());
+
+        assertThat(accountService.updateStatus(account.id(), UserStatus.INACTIVE).name()).isEqualTo("다른곳");
+        assertThat(accountRepository.findAccountByIds("cacheuser").getStatus()).isEqualTo(UserStatus.INACTIVE);
+    }
+
+    @Test
+    public void updateAccount_ShouldMoveNaturalIdToNewIds() {
+        accountRepository.findAccountByIds("cacheuser");
+
+        accountService.updateAccount(account.id(), new RegisterRequest("renamed", "password123", "새이름", "cache@example.com"));
+
+        assertThat(accountRepository.findAccountByIds("cacheuser")).isNull();
+        assertThat(accountRepository.existsAccountByIds("cacheuser")).isFalse();
+        assertThat(accountRepository.findAccountByIds("renamed").getName()).isEqualTo("새이름");
+
+        statistics.clear();
+        assertThat(accountRepository.findAccountByIds("renamed").getIds()).isEqualTo("renamed");
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+    }
+
+    @Test
+    public void bulkAndJdbcUpdates_ShouldNotLeaveStaleEntity() {
+        Account cached = accountRepository.findAccountByIds("cacheuser");
+
+        // Criteria update (PATCH) 는 Hibernate 가 영역을 비움
+        accountService.patchAccount(account.id(), new AccountPatchRequest("patched", null, "부분수정", null, cached.getVersion()));
+        assertThat(accountRepository.findAccountByIds("cacheuser")).isNull();
+        assertThat(accountRepository.findAccountByIds("patched").getName()).isEqualTo("부분수정");
+
+        // JDBC update (마지막 로그인 시각) 는 직접 제거
+        Instant loginAt = Instant.now().truncatedTo(ChronoUnit.MICROS);
+        accountRepository.updateLastLoginAt(Map.of(account.id(), loginAt));
+        assertThat(accountRepository.findAccountByIds("patched").getLastLoginAt()).isEqualTo(loginAt);
+    }
+}
@@ -0,0 +1,36 @@
+package main.accountapi.repository;
+
+import main.accountapi.model.AuditAction;
+import main.accountapi.model.dto.AuditEvent;
+import main.accountapi.model.entity.AuditLog;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.Sort;
+
+import java.time.Instant;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+@DataJpaTest
+public class AuditLogRepositoryTest {
+
+    @Autowired
+    private AuditLogRepository auditLogRepository;
+
+    @Test
+    public void testInsertAll() {
+        Instant now = Instant.parse("2026-01-01T00:00:00Z");
+        auditLogRepository.insertAll(List.of(
+                new AuditEvent(AuditAction.LOGIN, 1L, "user1", true, now),
+                new AuditEvent(AuditAction.LOGIN, null, "unknown", false, now.plusMillis(1))));
+
+        List<AuditLog> logs = auditLogRepository.findAll(Sort.by("id"));
+        assertThat(logs).extracting(AuditLog::getAction, AuditLog::getAccountId, AuditLog::getIds, AuditLog::isSuccess, AuditLog::getOccurredAt)
+                .containsExactly(
+                        tuple(AuditAction.LOGIN, 1L, "user1", true, now),
+                        tuple(AuditAction.LOGIN, null, "unknown", false, now.plusMillis(1)));
+    }
+}
@@ -0,0 +1,22 @@
+package main.accountapi.security;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class BCryptStrengthCalibratorTest {
+
+    @Test
+    public void calibrate_ShouldNotGoBelowMinStrength() {
+        // 목표 시간이 0 이어도 최소 강도
+        assertEquals(4, BCryptStrengthCalibrator.calibrate(Duration.ZERO, 4, 6));
+    }
+
+    @Test
+    public void calibrate_ShouldNotGoAboveMaxStrength() {
+        // 목표 시간이 충분해도 최대 강도까지만
+        assertEquals(5, BCryptStrengthCalibrator.calibrate(Duration.ofMinutes(1), 4, 5));
+    }
+}
@@ -0,0 +1,127 @@
+package main.accountapi.security;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import main.accountapi.config.PasswordHashingProperties;
+import main.accountapi.exception.PasswordHashingBusyException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+public class BoundedPasswordEncoderTest {
+
+    private PasswordEncoder delegate;
+    private SimpleMeterRegistry meterRegistry;
+    private BoundedPasswordEncoder passwordEncoder;
+
+    @BeforeEach
+    public void setUp() {
+        delegate = mock(PasswordEncoder.class);
+        meterRegistry = new SimpleMeterRegistry();
+        // 스레드 1개, 대기열 1개
+        passwordEncoder = new BoundedPasswordEncoder(delegate, new PasswordHashingProperties(1, 1), meterRegistry);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        passwordEncoder.close();
+    }
+
+    @Test
+    public void encodeAndMatches_ShouldRunOnHashingThread() {
+        when(delegate.encode("password")).thenAnswer(invocation -> Thread.currentThread().getName());
+        when(delegate.matches("password", "encoded")).thenReturn(true);
+
+        assertTrue(passwordEncoder.encode("password").startsWith("password-hashing-"));
+        assertTrue(passwordEncoder.matches("password", "encoded"));
+        assertEquals(1, meterRegistry.get("account.password.hashing").tag("operation", "encode").timer().count());
+        assertEquals(1, meterRegistry.get("account.password.hashing").tag("operation", "matches").timer().count());
+        assertEquals(2, meterRegistry.get("account.password.hashing.wait").timer().count());
+    }
+
+    @Test
+    public void encode_ShouldRejectImmediately_WhenQueueIsFull() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(delegate.encode(anyString())).thenAnswer(invocation -> {
+            started.countDown();
+            release.await();
+            return "encoded";
+        });
+
+        // 하나는 실행 중, 하나는 대기열에
+        CompletableFuture<String> running = CompletableFuture.supplyAsync(() -> passwordEncoder.encode("first"));
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        CompletableFuture<String> queued = CompletableFuture.supplyAsync(() -> passwordEncoder.encode("second"));
+        while (meterRegistry.get("account.password.hashing.queue").gauge().value() < 1) {
+            Thread.onSpinWait();
+        }
+
+        // 세번째는 기다리지 않고 거절
+        assertThrows(PasswordHashingBusyException.class, () -> passwordEncoder.encode("third"));
+        assertEquals(1, meterRegistry.get("account.password.hashing.rejected").counter().count());
+
+        release.countDown();
+        assertEquals("encoded", running.get(5, TimeUnit.SECONDS));
+        assertEquals("encoded", queued.get(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void encodeAll_ShouldHashOnPoolInOrder_WithoutFillingQueue() {
+        when(delegate.encode(anyString())).thenAnswer(invocation ->
+                invocation.getArgument(0) + "@" + Thread.currentThread().getName());
+
+        // 스레드 1개, 대기열 1개여도 한번에 스레드 수만큼만 넘기므로 거절되지 않음
+        List<String> encoded = passwordEncoder.encodeAll(List.of("p1", "p2", "p3", "p4", "p5"));
+
+        assertEquals(5, encoded.size());
+        for (int i = 0; i < encoded.size(); i++) {
+            assertTrue(encoded.get(i).startsWith("p" + (i + 1) + "@password-hashing-"));
+        }
+        assertEquals(5, meterRegistry.get("account.password.hashing").tag("operation", "encode").timer().count());
+        assertEquals(0, meterRegistry.get("account.password.hashing.rejected").counter().count());
+    }
+
+    @Test
+    public void encodeAll_ShouldRejectImmediately_WhenQueueIsFull() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(delegate.encode(anyString())).thenAnswer(invocation -> {
+            started.countDown();
+            release.await();
+            return "encoded";
+        });
+
+        // 다른 요청이 실행 중 하나, 대기열 하나를 차지
+        CompletableFuture<String> running = CompletableFuture.supplyAsync(() -> passwordEncoder.encode("first"));
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        CompletableFuture<String> queued = CompletableFuture.supplyAsync(() -> passwordEncoder.encode("second"));
+        while (meterRegistry.get("account.password.hashing.queue").gauge().value() < 1) {
+            Thread.onSpinWait();
+        }
+
+        assertThrows(PasswordHashingBusyException.class, () -> passwordEncoder.encodeAll(List.of("p1", "p2")));
+        assertEquals(1, meterRegistry.get("account.password.hashing.rejected").counter().count());
+
+        release.countDown();
+        assertEquals("encoded", running.get(5, TimeUnit.SECONDS));
+        assertEquals("encoded", queued.get(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void encode_ShouldPropagateDelegateException() {
+        when(delegate.encode("bad")).thenThrow(new IllegalArgumentException("bad"));
+
+        Exception exception = assertThrows(IllegalArgumentException.class, () -> passwordEncoder.encode("bad"));
+
+        assertEquals("bad", exception.getMessage());
+    }
+}
@@ -0,0 +1,76 @@
+package main.accountapi.security;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import main.accountapi.config.LoginThrottleProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class LoginRateLimiterTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private AtomicLong now;
+    private LoginRateLimiter limiter;
+
+    @BeforeEach
+    public void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        now = new AtomicLong(-1_000_000_000L); // nanoTime 은 음수일 수도 있음
+        // 아이디별 3초에 3번, 주소별 10초에 5번
+        limiter = new LoginRateLimiter(new LoginThrottleProperties(true, 3, Duration.ofSeconds(3), 5, Duration.ofSeconds(10),
+                100, Duration.ofMinutes(10)), meterRegistry, now::get);
+    }
+
+    @Test
+    public void acquire_ShouldRejectIds_WhenBurstIsUsed() {
+        for (int i = 0; i < 3; i++) {
+            assertEquals(Duration.ZERO, limiter.acquire("testuser", "10.0.0.1"));
+        }
+
+        // 4번째는 토큰 하나가 회복될 때까지 (1초) 기다려야 함
+        assertEquals(Duration.ofSeconds(1), limiter.acquire("testuser", "10.0.0.2"));
+        assertEquals(1, meterRegistry.get("account.login.throttled").tag("key", "ids").counter().count());
+
+        // 다른 아이디는 영향 없음
+        assertEquals(Duration.ZERO, limiter.acquire("otheruser", "10.0.0.3"));
+    }
+
+    @Test
+    public void acquire_ShouldRefillOverTime() {
+        for (int i = 0; i < 3; i++) {
+            limiter.acquire("testuser", "10.0.0.1");
+        }
+        now.addAndGet(Duration.ofMillis(500).toNanos());
+        assertEquals(Duration.ofMillis(500), limiter.acquire("testuser", "10.0.0.1"));
+
+        now.addAndGet(Duration.ofMillis(500).toNanos());
+        assertEquals(Duration.ZERO, limiter.acquire("testuser", "10.0.0.1"));
+    }
+
+    @Test
+    public void acquire_ShouldRejectAddress_AcrossManyIds() {
+        // 한 주소에서 아이디를 바꿔가며 시도해도 주소 제한에 걸림
+        for (int i = 0; i < 5; i++) {
+            assertEquals(Duration.ZERO, limiter.acquire("user" + i, "10.0.0.1"));
+        }
+
+        assertEquals(Duration.ofSeconds(2), limiter.acquire("user5", "10.0.0.1"));
+        assertEquals(1, meterRegistry.get("account.login.throttled").tag("key", "address").counter().count());
+        // 주소에서 거절되면 아이디 버킷은 쓰지 않음
+        assertEquals(5, meterRegistry.get("account.login.throttle.keys").tag("key", "ids").gauge().value());
+    }
+
+    @Test
+    public void acquire_ShouldAllowEverything_WhenDisabled() {
+        LoginRateLimiter disabled = new LoginRateLimiter(new LoginThrottleProperties(false, 1, Duration.ofMinutes(1), 1,
+                Duration.ofMinutes(1), 100, Duration.ofMinutes(10)), meterRegistry, now::get);
+
+        for (int i = 0; i < 10; i++) {
+            assertEquals(Duration.ZERO, disabled.acquire("testuser", "10.0.0.1"));
+        }
+    }
+}
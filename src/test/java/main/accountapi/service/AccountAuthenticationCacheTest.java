@@ -0,0 +1,116 @@
+package main.accountapi.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import main.accountapi.config.AccountChangeProperties;
+import main.accountapi.config.AccountLookupProperties;
+import main.accountapi.config.AccountPageProperties;
+import main.accountapi.config.BulkRegisterProperties;
+import main.accountapi.config.CacheConfig;
+import main.accountapi.config.SingleFlightProperties;
+import main.accountapi.model.UserStatus;
+import main.accountapi.model.dto.AuthenticationResponse;
+import main.accountapi.model.entity.Account;
+import main.accountapi.repository.AccountRepository;
+import main.accountapi.service.Impl.AccountServiceImpl;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+// 캐시 프록시를 거치는 authenticateLogin 과 계정 변경의 캐시 제거 순서
+@SpringJUnitConfig
+public class AccountAuthenticationCacheTest {
+
+    @Configuration
+    @EnableCaching
+    static class Config {
+
+        @Bean
+        AccountRepository accountRepository() {
+            return mock(AccountRepository.class);
+        }
+
+        @Bean
+        CacheManager cacheManager() {
+            CaffeineCacheManager cacheManager = new CaffeineCacheManager(CacheConfig.ACCOUNTS_BY_IDS);
+            cacheManager.setCacheSpecification("maximumSize=100,expireAfterWrite=60s");
+            return cacheManager;
+        }
+
+        @Bean
+        AccountService accountService(AccountRepository accountRepository, CacheManager cacheManager) {
+            return new AccountServiceImpl(accountRepository, mock(PasswordEncoder.class),
+                    new AccountPageProperties(2, 3), new BulkRegisterProperties(2, 5), new AccountLookupProperties(3),
+                    cacheManager, mock(LastLoginRecorder.class), mock(AccountChangeLog.class),
+                    new SingleFlight(new SingleFlightProperties(Duration.ofSeconds(1)), new SimpleMeterRegistry()),
+                    mock(AuditRecorder.class), new AccountChangeProperties(2, 10, Duration.ofSeconds(2), Duration.ofSeconds(1),
+                    Duration.ofMinutes(1), 10, Duration.ofHours(1), Duration.ofDays(7), 100), mock(PlatformTransactionManager.class));
+        }
+    }
+
+    @Autowired
+    private AccountService accountService;
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @Test
+    public void authenticateLogin_ShouldNotCacheStaleRow_WhenEvictedDuringLoad() throws Exception {
+        Account account = new Account();
+        account.setId(1L);
+        account.setIds("testuser");
+        account.setStatus(UserStatus.ACTIVE);
+        when(accountRepository.findCurrentById(1L)).thenReturn(Optional.of(account));
+
+        AuthenticationResponse before = new AuthenticationResponse("testuser", "oldPassword", null, null, 1L, 0L);
+        AuthenticationResponse after = new AuthenticationResponse("testuser", "newPassword", null, null, 1L, 1L);
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        // 첫 조회는 수정 전 행을 읽은 채로 멈춤
+        when(accountRepository.findAuthenticationByIds("testuser")).thenAnswer(invocation -> {
+            loading.countDown();
+            assertTrue(release.await(5, TimeUnit.SECONDS));
+            return Optional.of(before);
+        }).thenReturn(Optional.of(after));
+
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<AuthenticationResponse> load = executor.submit(() -> accountService.authenticateLogin("testuser"));
+            assertTrue(loading.await(5, TimeUnit.SECONDS));
+
+            // 조회 중에 계정이 바뀌고 캐시 제거
+            Future<?> update = executor.submit(() -> accountService.updateStatus(1L, UserStatus.DORMANT));
+            // 제거가 조회 끝을 기다리는지 (또는 이미 끝났는지) 확인한 뒤 조회를 마저 진행
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(1);
+            while (!update.isDone() && System.nanoTime() < deadline) {
+                Thread.sleep(10);
+            }
+            release.countDown();
+
+            assertEquals(before, load.get(5, TimeUnit.SECONDS));
+            update.get(5, TimeUnit.SECONDS);
+        } finally {
+            executor.shutdownNow();
+        }
+
+        // 수정 전 값이 캐시에 남아 있으면 안 됨
+        assertEquals(after, accountService.authenticateLogin("testuser"));
+    }
+}
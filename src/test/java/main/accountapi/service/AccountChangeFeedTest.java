@@ -0,0 +1,190 @@
+package main.accountapi.service;
+
+import main.accountapi.config.AccountChangeProperties;
+import main.accountapi.model.AccountChangeType;
+import main.accountapi.model.dto.AccountChangePageResponse;
+import main.accountapi.model.dto.AccountChangeResponse;
+import main.accountapi.model.entity.AccountChange;
+import main.accountapi.repository.AccountChangeRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.Limit;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.junit.jupiter.api.Assertions.assertTimeout;
+
+@DataJpaTest
+public class AccountChangeFeedTest {
+
+    @Autowired
+    private AccountChangeRepository changeRepository;
+
+    private AccountChangeFeed changeFeed;
+
+    @BeforeEach
+    public void setUp() {
+        // 기본 2개씩, 2초 안의 변경은 미룸, 구독자마다 3개까지 쌓아둠, 1시간 지나면 압축, 7일 지나면 삭제
+        changeFeed = new AccountChangeFeed(changeRepository, new AccountChangeProperties(2, 10, Duration.ofSeconds(2),
+                Duration.ofSeconds(1), Duration.ofMinutes(30), 3, Duration.ofHours(1), Duration.ofDays(7), 1));
+    }
+
+    @Test
+    public void getChangesAfter_ShouldPageByCursor() {
+        Instant settled = Instant.now().minusSeconds(10);
+        long first = save(1L, "user1", AccountChangeType.CREATED, settled);
+        save(2L, "user2", AccountChangeType.CREATED, settled);
+        long third = save(1L, "user1", AccountChangeType.UPDATED, settled);
+
+        AccountChangePageResponse page = changeFeed.getChangesAfter(0L, null);
+        assertThat(page.changes()).extracting(AccountChangeResponse::ids).containsExactly("user1", "user2");
+
+        AccountChangePageResponse next = changeFeed.getChangesAfter(page.nextCursor(), null);
+        assertThat(next.changes()).extracting(AccountChangeResponse::id).containsExactly(third);
+
+        // 새 변경이 없으면 커서는 그대로
+        assertThat(changeFeed.getChangesAfter(next.nextCursor(), null).nextCursor()).isEqualTo(third);
+        assertThat(first).isLessThan(third);
+    }
+
+    @Test
+    public void getChangesAfter_ShouldStopAtUnsettledChange() {
+        long settled = save(1L, "user1", AccountChangeType.CREATED, Instant.now().minusSeconds(10));
+        save(2L, "user2", AccountChangeType.CREATED, Instant.now()); // 아직 커밋 중일 수 있음
+        save(3L, "user3", AccountChangeType.CREATED, Instant.now().minusSeconds(10));
+
+        AccountChangePageResponse page = changeFeed.getChangesAfter(0L, 10);
+
+        // 뒤에 있는 오래된 변경도 앞의 변경이 안정될 때까지 미룸
+        assertThat(page.changes()).extracting(AccountChangeResponse::id).containsExactly(settled);
+        assertThat(page.nextCursor()).isEqualTo(settled);
+    }
+
+    @Test
+    public void publish_ShouldNotWaitForSlowSubscriber() throws Exception {
+        Instant settled = Instant.now().minusSeconds(10);
+        long first = save(1L, "user1", AccountChangeType.CREATED, settled);
+        long second = save(2L, "user2", AccountChangeType.CREATED, settled);
+        CountDownLatch release = new CountDownLatch(1);
+        RecordingEmitter slow = new RecordingEmitter(release);
+        RecordingEmitter fast = new RecordingEmitter(null);
+        changeFeed.subscribe(slow, 0L);
+        changeFeed.subscribe(fast, 0L);
+
+        // 느린 구독자가 전송 중에 멈춰 있어도 바로 돌아오고 다른 구독자는 받음
+        assertTimeout(Duration.ofSeconds(5), changeFeed::publish);
+        assertThat(fast.sent.poll(5, TimeUnit.SECONDS)).isEqualTo(first);
+        assertThat(fast.sent.poll(5, TimeUnit.SECONDS)).isEqualTo(second);
+
+        release.countDown();
+        assertThat(slow.sent.poll(5, TimeUnit.SECONDS)).isEqualTo(first);
+        assertThat(slow.sent.poll(5, TimeUnit.SECONDS)).isEqualTo(second);
+    }
+
+    @Test
+    public void publish_ShouldDisconnectSubscriber_WhenBufferIsFull() {
+        Instant settled = Instant.now().minusSeconds(10);
+        for (long accountId = 1; accountId <= 5; accountId++) {
+            save(accountId, "user" + accountId, AccountChangeType.CREATED, settled);
+        }
+        CountDownLatch release = new CountDownLatch(1);
+        RecordingEmitter slow = new RecordingEmitter(release);
+        changeFeed.subscribe(slow, 0L);
+
+        // 5개 중 보내는 중인 1개를 빼도 3개를 넘으므로 연결을 끊음 (Last-Event-ID 로 다시 연결)
+        changeFeed.publish();
+
+        assertThat(slow.completed).isTrue();
+        release.countDown();
+    }
+
+    @Test
+    public void compact_ShouldKeepLatestPerAccountAndRenames_AndDropExpired() {
+        Instant now = Instant.now();
+        save(1L, "user1", AccountChangeType.CREATED, now.minus(Duration.ofDays(8))); // 보관 기간 지남
+        save(2L, "user2", AccountChangeType.CREATED, now.minus(Duration.ofHours(3))); // 같은 계정에 더 최근 변경 있음
+        save(2L, "user2", AccountChangeType.UPDATED, now.minus(Duration.ofHours(2))); // 같은 계정에 더 최근 변경 있음
+        long renamed = changeRepository.save(new AccountChange(0L, 2L, "user2-new", "user2", AccountChangeType.UPDATED,
+                now.minus(Duration.ofMinutes(90)))).getId(); // 아이디 변경은 남김
+        long latest = save(2L, "user2-new", AccountChangeType.STATUS_CHANGED, now.minus(Duration.ofMinutes(10)));
+        long recent = save(3L, "user3", AccountChangeType.CREATED, now.minus(Duration.ofHours(2)));
+
+        changeFeed.compact();
+
+        assertThat(changeRepository.findChangesAfter(0L, Limit.of(10)))
+                .extracting(AccountChangeResponse::id)
+                .containsExactly(renamed, latest, recent);
+    }
+
+    @Test
+    public void insertAll_ShouldIssueIdsInInsertOrder() {
+        long before = save(1L, "user1", AccountChangeType.CREATED, Instant.now());
+
+        changeRepository.insertAll(List.of(
+                new AccountChange(0L, 2L, "user2", null, AccountChangeType.CREATED, Instant.now()),
+                new AccountChange(0L, 3L, "user3-new", "user3", AccountChangeType.UPDATED, Instant.now())));
+
+        assertThat(changeRepository.findChangesAfter(before, Limit.of(10)))
+                .extracting(AccountChangeResponse::ids, AccountChangeResponse::previousIds)
+                .containsExactly(tuple("user2", null),
+                        tuple("user3-new", "user3"));
+    }
+
+    @Test
+    public void properties_ShouldRejectTransactionTimeout_WhenNotShorterThanSettleDelay() {
+        // 변경을 기록한 트랜잭션이 settle-delay 가 지나서 커밋되면 피드가 그 변경을 건너뜀
+        assertThatThrownBy(() -> new AccountChangeProperties(2, 10, Duration.ofSeconds(2), Duration.ofSeconds(2),
+                Duration.ofMinutes(30), 3, Duration.ofHours(1), Duration.ofDays(7), 1))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new AccountChangeProperties(2, 10, Duration.ofSeconds(2), Duration.ofMillis(500),
+                Duration.ofMinutes(30), 3, Duration.ofHours(1), Duration.ofDays(7), 1))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    // 보낸 이벤트 id 를 기록하고, release 가 있으면 열릴 때까지 전송을 막는 SSE 연결
+    private static final class RecordingEmitter extends SseEmitter {
+
+        private final CountDownLatch release;
+        private final BlockingQueue<Long> sent = new LinkedBlockingQueue<>();
+        private volatile boolean completed;
+
+        RecordingEmitter(CountDownLatch release) {
+            this.release = release;
+        }
+
+        @Override
+        public void send(SseEventBuilder builder) throws IOException {
+            try {
+                if (release != null && !release.await(10, TimeUnit.SECONDS)) {
+                    throw new IOException("timeout");
+                }
+            } catch (InterruptedException e) {
+                throw new IOException(e);
+            }
+            String data = builder.build().iterator().next().getData().toString();
+            sent.add(Long.parseLong(data.substring(data.indexOf("id:") + 3, data.indexOf('\n'))));
+        }
+
+        @Override
+        public void complete() {
+            completed = true;
+        }
+    }
+
+    private long save(long accountId, String ids, AccountChangeType type, Instant changedAt) {
+        return changeRepository.save(new AccountChange(0L, accountId, ids, null, type, changedAt)).getId();
+    }
+}
@@ -1,21 +1,58 @@
 package main.accountapi.service;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import main.accountapi.config.AccountChangeProperties;
+import main.accountapi.config.AccountLookupProperties;
+import main.accountapi.config.AccountPageProperties;
+import main.accountapi.config.BulkRegisterProperties;
+import main.accountapi.config.CacheConfig;
+import main.accountapi.config.SingleFlightProperties;
+import main.accountapi.exception.AccountVersionConflictException;
+import main.accountapi.exception.DuplicateAccountException;
+import main.accountapi.exception.PasswordHashingBusyException;
+import main.accountapi.model.AccountChangeType;
+import main.accountapi.model.AuditAction;
+import main.accountapi.model.BulkRegisterStatus;
 import main.accountapi.model.UserStatus;
+import main.accountapi.model.dto.AccountCredentials;
+import main.accountapi.model.dto.AccountExportRow;
+import main.accountapi.model.dto.AccountImportProgress;
+import main.accountapi.model.dto.AccountLookupResponse;
+import main.accountapi.model.dto.AccountPageResponse;
+import main.accountapi.model.dto.AccountPatchRequest;
 import main.accountapi.model.dto.AccountResponse;
+import main.accountapi.model.dto.AccountSearchCursor;
+import main.accountapi.model.dto.AccountSearchResponse;
+import main.accountapi.model.dto.AccountsVersion;
 import main.accountapi.model.dto.AuthenticationResponse;
+import main.accountapi.model.dto.BulkRegisterResponse;
 import main.accountapi.model.dto.LoginRequest;
 import main.accountapi.model.dto.RegisterRequest;
 import main.accountapi.model.entity.Account;
 import main.accountapi.repository.AccountRepository;
 import main.accountapi.service.Impl.AccountServiceImpl;
+import org.hibernate.exception.ConstraintViolationException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.mockito.Spy;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
 import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.transaction.PlatformTransactionManager;
 
+import java.sql.SQLException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -28,16 +65,52 @@ public class AccountServiceTest {
     @Mock
     private PasswordEncoder passwordEncoder;
 
+    @Spy
+    private AccountPageProperties pageProperties = new AccountPageProperties(2, 3);
+
+    @Spy
+    private BulkRegisterProperties bulkProperties = new BulkRegisterProperties(2, 5);
+
+    @Spy
+    private AccountLookupProperties lookupProperties = new AccountLookupProperties(3);
+
+    @Mock
+    private CacheManager cacheManager;
+
+    @Mock
+    private Cache cache;
+
+    @Mock
+    private LastLoginRecorder lastLoginRecorder;
+
+    @Mock
+    private AccountChangeLog changeLog;
+
+    @Spy
+    private SingleFlight singleFlight = new SingleFlight(new SingleFlightProperties(Duration.ofSeconds(1)), new SimpleMeterRegistry());
+
+    @Mock
+    private AuditRecorder auditRecorder;
+
+    @Spy
+    private AccountChangeProperties changeProperties = new AccountChangeProperties(2, 10, Duration.ofSeconds(2), Duration.ofSeconds(1),
+            Duration.ofMinutes(1), 10, Duration.ofHours(1), Duration.ofDays(7), 100);
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
     @InjectMocks
     private AccountServiceImpl accountService;
 
     private Account account;
+    private AccountCredentials credentials;
     private RegisterRequest registerRequest;
     private LoginRequest loginRequest;
 
     @BeforeEach
     public void setUp() {
         MockitoAnnotations.openMocks(this);
+        when(cacheManager.getCache(CacheConfig.ACCOUNTS_BY_IDS)).thenReturn(cache);
 
         account = new Account();
         account.setId(1L);
@@ -45,6 +118,7 @@ public class AccountServiceTest {
         account.setPassword("encodedPassword");
         account.setEmail("test@example.com");
         account.setStatus(UserStatus.ACTIVE);
+        credentials = new AccountCredentials(1L, "testuser", "encodedPassword", null, "test@example.com", UserStatus.ACTIVE);
 
         registerRequest = new RegisterRequest("testuser", "password123", "1팀", "test@example.com");
         loginRequest = new LoginRequest("testuser", "password123");
@@ -56,7 +130,7 @@ public class AccountServiceTest {
         // 정상적인 회원가입
         when(accountRepository.existsAccountByIds(registerRequest.ids())).thenReturn(false);
         when(passwordEncoder.encode(registerRequest.password())).thenReturn("encodedPassword");
-        when(accountRepository.save(any(Account.class))).thenReturn(account);
+        when(accountRepository.saveAndFlush(any(Account.class))).thenReturn(account);
 
         AccountResponse response = accountService.register(registerRequest);
 
@@ -64,60 +138,236 @@ public class AccountServiceTest {
         assertEquals("testuser", response.ids());
         assertEquals("test@example.com", response.email());
         assertEquals(UserStatus.ACTIVE, response.status());
+        verify(changeLog).record(AccountChangeType.CREATED, 1L, "testuser", null); // 가입과 같은 트랜잭션에서 변경 기록
 
-        // 아이디가 이미 존재하는 경우 예외 처리
-        when(accountRepository.existsAccountByIds(registerRequest.ids())).thenReturn(true);
-        Exception exception = assertThrows(IllegalArgumentException.class, () -> {
+        // 아이디 중복은 미리 조회하지 않음
+        verify(accountRepository, never()).existsAccountByIds(anyString());
+
+        // 아이디가 이미 존재하는 경우 유니크 인덱스 위반을 409 예외로
+        when(accountRepository.saveAndFlush(any(Account.class))).thenThrow(duplicateIdsViolation());
+        Exception exception = assertThrows(DuplicateAccountException.class, () -> {
             accountService.register(registerRequest);
         });
 
         assertEquals("존재하는 아이디입니다.", exception.getMessage());
     }
 
+    @Test
+    public void register_ShouldRethrow_WhenOtherConstraintIsViolated() {
+        DataIntegrityViolationException violation = new DataIntegrityViolationException("not null",
+                new ConstraintViolationException("not null", new SQLException(), "PUBLIC.USERS.EMAIL"));
+        when(passwordEncoder.encode(registerRequest.password())).thenReturn("encodedPassword");
+        when(accountRepository.saveAndFlush(any(Account.class))).thenThrow(violation);
+
+        assertThrows(DataIntegrityViolationException.class, () -> accountService.register(registerRequest));
+    }
+
+    private static DataIntegrityViolationException duplicateIdsViolation() {
+        return new DataIntegrityViolationException("duplicate",
+                new ConstraintViolationException("duplicate", new SQLException(), "PUBLIC.UK_USERS_IDS_INDEX_4"));
+    }
+
+    @Test
+    public void registerAll_ShouldReportResultPerRow() {
+        // 정상 3건(배치 2건 + 1건), 이미 가입된 아이디, 요청 안에서 중복, 빈 값
+        List<RegisterRequest> requests = List.of(
+                new RegisterRequest("user1", "password1", "이름1", "user1@example.com"),
+                new RegisterRequest("existing", "password2", "이름2", "existing@example.com"),
+                new RegisterRequest("user1", "password3", "이름3", "user1@example.com"),
+                new RegisterRequest("user2", "", "이름4", "user2@example.com"),
+                new RegisterRequest("user3", "password5", "이름5", "user3@example.com"));
+        when(accountRepository.findExistingIds(Set.of("user1", "existing", "user3"))).thenReturn(Set.of("existing"));
+        when(passwordEncoder.encode(anyString())).thenAnswer(invocation -> "encoded-" + invocation.getArgument(0));
+        when(accountRepository.saveAllAndFlush(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        BulkRegisterResponse response = accountService.registerAll(requests);
+
+        assertEquals(2, response.created());
+        assertEquals(3, response.failed());
+        assertEquals(List.of(BulkRegisterStatus.CREATED, BulkRegisterStatus.DUPLICATE, BulkRegisterStatus.DUPLICATE,
+                        BulkRegisterStatus.INVALID, BulkRegisterStatus.CREATED),
+                response.results().stream().map(result -> result.status()).toList());
+        assertEquals("user3", response.results().get(4).account().ids());
+        verify(accountRepository, times(1)).findExistingIds(anySet());
+        verify(accountRepository, times(1)).saveAllAndFlush(anyList());
+    }
+
+    @Test
+    public void registerAll_ShouldMarkDuplicate_WhenIdsIsTakenConcurrently() {
+        // 중복 확인 후 다른 요청이 먼저 가입하면 그 아이디만 중복으로 표시하고 나머지는 다시 저장
+        List<RegisterRequest> requests = List.of(
+                new RegisterRequest("user1", "password1", "이름1", "user1@example.com"),
+                new RegisterRequest("raced", "password2", "이름2", "raced@example.com"));
+        when(accountRepository.findExistingIds(anyCollection())).thenReturn(Set.of());
+        // 실패한 뒤에는 복제 지연 없이 원본에서 다시 확인
+        when(accountRepository.findExistingIdsOnPrimary(anyCollection())).thenReturn(Set.of("raced"));
+        when(passwordEncoder.encode(anyString())).thenReturn("encodedPassword");
+        when(accountRepository.saveAllAndFlush(anyList()))
+                .thenThrow(duplicateIdsViolation())
+                .thenAnswer(invocation -> invocation.getArgument(0));
+
+        BulkRegisterResponse response = accountService.registerAll(requests);
+
+        assertEquals(1, response.created());
+        assertEquals(BulkRegisterStatus.CREATED, response.results().get(0).status());
+        assertEquals(BulkRegisterStatus.DUPLICATE, response.results().get(1).status());
+    }
+
+    @Test
+    public void registerAll_ShouldMarkBusy_WhenHashingPoolIsFullAfterEarlierChunkCommitted() {
+        // 첫 청크(2건)는 저장되고 두번째 청크에서 해싱 대기열이 가득 참
+        List<RegisterRequest> requests = List.of(
+                new RegisterRequest("user1", "password1", "이름1", "user1@example.com"),
+                new RegisterRequest("user2", "password2", "이름2", "user2@example.com"),
+                new RegisterRequest("user3", "password3", "이름3", "user3@example.com"));
+        when(accountRepository.findExistingIds(anyCollection())).thenReturn(Set.of());
+        when(passwordEncoder.encode(anyString())).thenReturn("encodedPassword");
+        when(passwordEncoder.encode("password3")).thenThrow(new PasswordHashingBusyException());
+        when(accountRepository.saveAllAndFlush(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        BulkRegisterResponse response = accountService.registerAll(requests);
+
+        assertEquals(2, response.created());
+        assertEquals(List.of(BulkRegisterStatus.CREATED, BulkRegisterStatus.CREATED, BulkRegisterStatus.BUSY),
+                response.results().stream().map(result -> result.status()).toList());
+        verify(accountRepository, times(1)).saveAllAndFlush(anyList());
+    }
+
+    @Test
+    public void registerAll_ShouldThrowBusy_WhenNothingWasCommitted() {
+        when(accountRepository.findExistingIds(anyCollection())).thenReturn(Set.of());
+        when(passwordEncoder.encode(anyString())).thenThrow(new PasswordHashingBusyException());
+
+        assertThrows(PasswordHashingBusyException.class, () -> accountService.registerAll(List.of(registerRequest)));
+        verify(accountRepository, never()).saveAllAndFlush(anyList());
+    }
+
+    @Test
+    public void registerAll_ShouldThrowException_WhenTooManyRequests() {
+        List<RegisterRequest> requests = java.util.Collections.nCopies(6, registerRequest);
+
+        assertThrows(IllegalArgumentException.class, () -> accountService.registerAll(requests));
+        verify(accountRepository, never()).saveAllAndFlush(anyList());
+    }
+
+    @Test
+    public void importAccounts_ShouldSaveCommittedChunksKeepingHashes() {
+        // 청크 크기 2 (batchSize), 해시는 다시 만들지 않고 그대로 저장
+        String hash = "{bcrypt}$2a$10$N9qo8uLOickgx2ZMRZoMyeIjZAgcfl7p92ldGxad68LJZdL17lhWy";
+        Instant lastLoginAt = Instant.parse("2026-01-01T00:00:00Z");
+        List<AccountExportRow> rows = List.of(
+                new AccountExportRow("user1", hash, "이름1", "user1@example.com", UserStatus.DORMANT, lastLoginAt),
+                new AccountExportRow("user2", "plainPassword", "이름2", "user2@example.com", UserStatus.ACTIVE, null),
+                new AccountExportRow("existing", hash, "이름3", "existing@example.com", UserStatus.ACTIVE, null),
+                new AccountExportRow("user4", hash.substring("{bcrypt}".length()), "이름4", "user4@example.com", UserStatus.ACTIVE, null),
+                new AccountExportRow("user5", hash, "이름5", "user5@example.com", null, null));
+        when(accountRepository.findExistingIds(anyCollection())).thenAnswer(invocation ->
+                invocation.<Collection<String>>getArgument(0).contains("existing") ? Set.of("existing") : Set.of());
+        List<Account> saved = new ArrayList<>();
+        when(accountRepository.saveAllAndFlush(anyList())).thenAnswer(invocation -> {
+            saved.addAll(invocation.getArgument(0));
+            return invocation.getArgument(0);
+        });
+        List<AccountImportProgress> progress = new ArrayList<>();
+
+        accountService.importAccounts(rows.iterator(), progress::add);
+
+        assertEquals(List.of(new AccountImportProgress(1, 1, 0, 1, 2),
+                new AccountImportProgress(2, 1, 1, 0, 4),
+                new AccountImportProgress(3, 1, 0, 0, 5)), progress);
+        assertEquals(List.of("user1", "user4", "user5"), saved.stream().map(Account::getIds).toList());
+        assertEquals(hash, saved.get(0).getPassword());
+        assertEquals(UserStatus.DORMANT, saved.get(0).getStatus());
+        assertEquals(lastLoginAt, saved.get(0).getLastLoginAt());
+        assertEquals(UserStatus.ACTIVE, saved.get(2).getStatus()); // 상태가 없으면 활성
+        verify(passwordEncoder, never()).encode(anyString());
+        verify(accountRepository, times(3)).saveAllAndFlush(anyList()); // 청크마다 커밋
+        verify(auditRecorder).record(AuditAction.REGISTER, 0L, "user5", true);
+    }
+
     @Test
     public void login_ShouldReturnAccountResponse_WhenValidCredentials() {
         // 로그인 성공
-        when(accountRepository.findAccountByIds(loginRequest.ids())).thenReturn(account);
+        when(accountRepository.findCredentialsByIds(loginRequest.ids())).thenReturn(Optional.of(credentials));
         when(passwordEncoder.matches(loginRequest.password(), account.getPassword())).thenReturn(true);
 
-        AccountResponse response = accountService.login(loginRequest);
+        AccountResponse response = accountService.login(loginRequest).orElseThrow();
 
-        assertNotNull(response);
         assertEquals("testuser", response.ids());
         assertEquals("test@example.com", response.email());
         assertEquals(UserStatus.ACTIVE, response.status());
+        verify(lastLoginRecorder).record(eq(1L), any(Instant.class)); // 마지막 로그인 시각은 모아서 반영
+        verify(auditRecorder).record(AuditAction.LOGIN, 1L, "testuser", true);
+    }
+
+    @Test
+    public void login_ShouldRehashPassword_WhenEncodingIsOutdated() {
+        // 저장된 해시가 오래된 형식이면 로그인 성공시 다시 해싱
+        when(accountRepository.findCredentialsByIds(loginRequest.ids())).thenReturn(Optional.of(credentials));
+        when(passwordEncoder.matches(loginRequest.password(), "encodedPassword")).thenReturn(true);
+        when(passwordEncoder.upgradeEncoding("encodedPassword")).thenReturn(true);
+        when(passwordEncoder.encode(loginRequest.password())).thenReturn("{bcrypt}rehashedPassword");
+
+        accountService.login(loginRequest);
+
+        verify(accountRepository).updatePassword(1L, "{bcrypt}rehashedPassword");
+        verify(cache).evictIfPresent("testuser");
     }
 
     @Test
-    public void login_ShouldThrowException_WhenInvalidCredentials() {
+    public void login_ShouldNotRehashPassword_WhenEncodingIsCurrent() {
+        when(accountRepository.findCredentialsByIds(loginRequest.ids())).thenReturn(Optional.of(credentials));
+        when(passwordEncoder.matches(loginRequest.password(), "encodedPassword")).thenReturn(true);
+        when(passwordEncoder.upgradeEncoding("encodedPassword")).thenReturn(false);
+
+        accountService.login(loginRequest);
+
+        verify(passwordEncoder, never()).encode(anyString());
+        verify(accountRepository, never()).updatePassword(anyLong(), anyString());
+    }
+
+    @Test
+    public void login_ShouldReturnEmpty_WhenWrongPassword() {
         // 비밀번호 틀렸을 때
-        when(accountRepository.findAccountByIds(loginRequest.ids())).thenReturn(account);
+        when(accountRepository.findCredentialsByIds(loginRequest.ids())).thenReturn(Optional.of(credentials));
         when(passwordEncoder.matches(loginRequest.password(), account.getPassword())).thenReturn(false);
 
-        Exception exception = assertThrows(IllegalArgumentException.class, () -> {
-            accountService.login(loginRequest);
-        });
+        assertTrue(accountService.login(loginRequest).isEmpty());
+        verify(lastLoginRecorder, never()).record(anyLong(), any());
+        verify(auditRecorder).record(AuditAction.LOGIN, 1L, "testuser", false);
+    }
 
-        assertEquals("아이디 또는 비밀번호가 잘못되었습니다.", exception.getMessage());
+    @Test
+    public void login_ShouldHashDummyPassword_WhenUnknownIds() {
+        // 아이디가 없어도 가짜 해시와 비교해서 비밀번호가 틀렸을 때와 같은 비용
+        when(accountRepository.findCredentialsByIds(loginRequest.ids())).thenReturn(Optional.empty());
+        when(passwordEncoder.encode(anyString())).thenReturn("dummyHash");
 
-        // 아이디가 없을 때
-        when(accountRepository.findAccountByIds(loginRequest.ids())).thenReturn(null);
+        assertTrue(accountService.login(loginRequest).isEmpty());
+        assertTrue(accountService.login(loginRequest).isEmpty());
 
-        exception = assertThrows(IllegalArgumentException.class, () -> {
-            accountService.login(loginRequest);
-        });
+        verify(passwordEncoder, times(2)).matches(loginRequest.password(), "dummyHash");
+        verify(passwordEncoder, times(1)).encode(anyString()); // 가짜 해시는 한번만 생성
+        verify(auditRecorder, times(2)).record(AuditAction.LOGIN, null, "testuser", false);
+    }
+
+    @Test
+    public void getAccountsVersion_ShouldReturnAggregate() {
+        when(accountRepository.findAccountsVersion()).thenReturn(new AccountsVersion(2L, 51L, 3L));
+
+        AccountsVersion version = accountService.getAccountsVersion();
 
-        assertEquals("아이디 또는 비밀번호가 잘못되었습니다.", exception.getMessage());
+        assertEquals("\"2-51-3\"", version.eTag());
     }
 
     @Test
     public void getAllAccounts_ShouldReturnAllAccounts() {
         // 모든 회원 불러오기
-        Account account1 = new Account(1L, "user1", "password1","이름", "user1@example.com", UserStatus.ACTIVE);
-        Account account2 = new Account(2L, "user2", "password2", "이름2", "user2@example.com", UserStatus.INACTIVE);
-        List<Account> accounts = List.of(account1, account2);
+        AccountResponse account1 = new AccountResponse(1L, "user1", "이름", "user1@example.com", UserStatus.ACTIVE);
+        AccountResponse account2 = new AccountResponse(2L, "user2", "이름2", "user2@example.com", UserStatus.INACTIVE);
+        List<AccountResponse> accounts = List.of(account1, account2);
 
-        when(accountRepository.findAll()).thenReturn(accounts);
+        when(accountRepository.findAllAccountResponses()).thenReturn(accounts);
 
         List<AccountResponse> responses = accountService.getAllAccounts();
 
@@ -127,11 +377,59 @@ public class AccountServiceTest {
         assertEquals("user2", responses.get(1).ids());
     }
 
+    @Test
+    public void getAccountsAfter_ShouldReturnNextCursor_WhenPageIsFull() {
+        // 페이지가 꽉 차면 마지막 id 가 다음 커서
+        AccountResponse response1 = new AccountResponse(3L, "user3", "이름3", "user3@example.com", UserStatus.ACTIVE);
+        AccountResponse response2 = new AccountResponse(4L, "user4", "이름4", "user4@example.com", UserStatus.ACTIVE);
+        when(accountRepository.findAccountsAfter(2L, Limit.of(2))).thenReturn(List.of(response1, response2));
+
+        AccountPageResponse page = accountService.getAccountsAfter(2L, null);
+
+        assertEquals(2, page.accounts().size());
+        assertEquals(4L, page.nextCursor());
+
+        // 마지막 페이지면 커서 없음, size 는 최대값으로 제한
+        when(accountRepository.findAccountsAfter(4L, Limit.of(3))).thenReturn(List.of());
+
+        page = accountService.getAccountsAfter(4L, 100);
+
+        assertTrue(page.accounts().isEmpty());
+        assertNull(page.nextCursor());
+    }
+
+    @Test
+    public void searchAccounts_ShouldReturnCursorOfLastSortKey() {
+        // 이름 검색이면 마지막 계정의 (이름, id) 가 다음 커서, 빈 조건은 무시
+        AccountResponse response1 = new AccountResponse(4L, "user4", "kim1", "user4@example.com", UserStatus.ACTIVE);
+        AccountResponse response2 = new AccountResponse(3L, "user3", "kim2", "user3@example.com", UserStatus.ACTIVE);
+        when(accountRepository.searchAccounts("kim", null, null, null, 2)).thenReturn(List.of(response1, response2));
+
+        AccountSearchResponse page = accountService.searchAccounts("kim", " ", null, null, null);
+
+        assertEquals(2, page.accounts().size());
+        assertEquals(new AccountSearchCursor("kim2", 3L), AccountSearchCursor.decode(page.nextCursor()));
+
+        // 마지막 페이지면 커서 없음
+        when(accountRepository.searchAccounts("kim", null, null, new AccountSearchCursor("kim2", 3L), 2))
+                .thenReturn(List.of());
+
+        page = accountService.searchAccounts("kim", null, null, page.nextCursor(), null);
+
+        assertTrue(page.accounts().isEmpty());
+        assertNull(page.nextCursor());
+    }
+
+    @Test
+    public void searchAccounts_ShouldThrowException_WhenCursorIsInvalid() {
+        assertThrows(IllegalArgumentException.class, () -> accountService.searchAccounts("kim", null, null, "!!", null));
+    }
+
     @Test
     public void getAccountByIds_ShouldReturnAccount_WhenAccountExists() {
         // 회원 아이디로 회원불러오기
-        Account account = new Account(1L, "testuser", "encodedPassword", "테스트이름", "test@example.com", UserStatus.ACTIVE);
-        when(accountRepository.findAccountByIds("testuser")).thenReturn(account);
+        AccountResponse account = new AccountResponse(1L, "testuser", "테스트이름", "test@example.com", UserStatus.ACTIVE);
+        when(accountRepository.findAccountResponseByIds("testuser")).thenReturn(Optional.of(account));
 
         AccountResponse response = accountService.getAccountByIds("testuser");
 
@@ -144,7 +442,7 @@ public class AccountServiceTest {
     @Test
     public void getAccountByIds_ShouldThrowException_WhenAccountNotFound() {
         // 없는 회원 아이디로 회원불러오기
-        when(accountRepository.findAccountByIds("nonexistentuser")).thenReturn(null);
+        when(accountRepository.findAccountResponseByIds("nonexistentuser")).thenReturn(Optional.empty());
 
         Exception exception = assertThrows(IllegalArgumentException.class, () -> {
             accountService.getAccountByIds("nonexistentuser");
@@ -153,11 +451,30 @@ public class AccountServiceTest {
         assertEquals("찾을 수 없는 아이디입니다.", exception.getMessage());
     }
 
+    @Test
+    public void lookupAccounts_ShouldReturnFoundAndMissingIds() {
+        // 여러 아이디 중 있는 것은 accounts, 없는 것은 missing (중복 아이디는 한번만)
+        AccountResponse user1 = new AccountResponse(1L, "user1", "이름1", "user1@example.com", UserStatus.ACTIVE);
+        when(accountRepository.findAccountResponsesByIdsIn(Set.of("user1", "unknown"))).thenReturn(List.of(user1));
+
+        AccountLookupResponse response = accountService.lookupAccounts(List.of("user1", "unknown", "user1"));
+
+        assertEquals(java.util.Map.of("user1", user1), response.accounts());
+        assertEquals(List.of("unknown"), response.missing());
+        verify(accountRepository, times(1)).findAccountResponsesByIdsIn(anyCollection());
+    }
+
+    @Test
+    public void lookupAccounts_ShouldThrowException_WhenTooManyIds() {
+        assertThrows(IllegalArgumentException.class, () -> accountService.lookupAccounts(List.of("a", "b", "c", "d")));
+        verify(accountRepository, never()).findAccountResponsesByIdsIn(anyCollection());
+    }
+
     @Test
     public void updateAccount_ShouldUpdateAccountDetails() {
         // 정상적으로 회원정보 수정
-        when(accountRepository.findById(account.getId())).thenReturn(java.util.Optional.of(account));
-        when(accountRepository.save(any(Account.class))).thenReturn(account);
+        when(accountRepository.findCurrentById(account.getId())).thenReturn(java.util.Optional.of(account));
+        when(accountRepository.saveAndFlush(any(Account.class))).thenReturn(account);
 
         RegisterRequest updatedRequest = new RegisterRequest("testuser1", "newPassword", "삼사오", "newEmail@example.com");
 
@@ -171,7 +488,7 @@ public class AccountServiceTest {
         assertEquals("encodedPassword", account.getPassword());
 
         // 유저를 찾을 수 없을 때
-        when(accountRepository.findById(account.getId())).thenReturn(java.util.Optional.empty());
+        when(accountRepository.findCurrentById(account.getId())).thenReturn(java.util.Optional.empty());
         Exception exception = assertThrows(IllegalArgumentException.class, () -> {
             accountService.updateAccount(account.getId(), updatedRequest);
         });
@@ -179,10 +496,76 @@ public class AccountServiceTest {
         assertEquals("유저를 찾을 수 없습니다.", exception.getMessage());
     }
 
+    @Test
+    public void updateAccount_ShouldEvictPreviousAndNewIdsFromCache() {
+        // 아이디가 바뀌면 이전 아이디와 새 아이디 모두 캐시에서 제거
+        when(accountRepository.findCurrentById(account.getId())).thenReturn(java.util.Optional.of(account));
+        when(accountRepository.saveAndFlush(any(Account.class))).thenReturn(account);
+
+        accountService.updateAccount(account.getId(), new RegisterRequest("renamed", "", "삼사오", "newEmail@example.com"));
+
+        verify(cache).evictIfPresent("testuser");
+        verify(cache).evictIfPresent("renamed");
+        verify(accountRepository).evictCached(1L, "testuser");
+        verify(accountRepository).evictCached(1L, "renamed");
+        verify(changeLog).record(AccountChangeType.UPDATED, 1L, "renamed", "testuser");
+    }
+
+    @Test
+    public void patchAccount_ShouldUpdateOnlyGivenFieldsWithoutHashing() {
+        // 이름만 바꾸면 해싱 없이 이름 컬럼만 update
+        when(accountRepository.findIdsById(1L)).thenReturn(Optional.of("testuser"));
+        when(accountRepository.updateFields(1L, 3L, null, null, "새이름", null)).thenReturn(1);
+
+        long version = accountService.patchAccount(1L, new AccountPatchRequest(null, null, "새이름", null, 3L));
+
+        assertEquals(4L, version);
+        verify(passwordEncoder, never()).encode(anyString());
+        verify(accountRepository, never()).findCurrentById(anyLong());
+        verify(cache).evictIfPresent("testuser");
+    }
+
+    @Test
+    public void patchAccount_ShouldEncodeGivenPassword() {
+        when(accountRepository.findIdsById(1L)).thenReturn(Optional.of("testuser"));
+        when(passwordEncoder.encode("newPassword")).thenReturn("encodedNewPassword");
+        when(accountRepository.updateFields(1L, 0L, "renamed", "encodedNewPassword", null, null)).thenReturn(1);
+
+        accountService.patchAccount(1L, new AccountPatchRequest("renamed", "newPassword", null, null, 0L));
+
+        // 이전 아이디와 새 아이디 모두 캐시에서 제거
+        verify(cache).evictIfPresent("testuser");
+        verify(cache).evictIfPresent("renamed");
+        verify(accountRepository).evictCached(1L, "testuser");
+        verify(accountRepository).evictCached(1L, "renamed");
+        verify(changeLog).record(AccountChangeType.UPDATED, 1L, "renamed", "testuser");
+    }
+
+    @Test
+    public void patchAccount_ShouldThrowConflictWhenVersionIsStale() {
+        when(accountRepository.findIdsById(1L)).thenReturn(Optional.of("testuser"));
+        when(accountRepository.updateFields(1L, 0L, null, null, "새이름", null)).thenReturn(0);
+
+        assertThrows(AccountVersionConflictException.class,
+                () -> accountService.patchAccount(1L, new AccountPatchRequest(null, null, "새이름", null, 0L)));
+        verify(cache, never()).evictIfPresent(anyString());
+    }
+
+    @Test
+    public void patchAccount_ShouldThrowWhenAccountNotFound() {
+        when(accountRepository.findIdsById(1L)).thenReturn(Optional.empty());
+
+        Exception exception = assertThrows(IllegalArgumentException.class,
+                () -> accountService.patchAccount(1L, new AccountPatchRequest(null, null, "새이름", null, 0L)));
+
+        assertEquals("유저를 찾을 수 없습니다.", exception.getMessage());
+        verify(accountRepository, never()).updateFields(anyLong(), anyLong(), any(), any(), any(), any());
+    }
+
     @Test
     public void updateAccount_ShouldNotEncryptWhenPasswordIsEmpty() {
-        when(accountRepository.findById(account.getId())).thenReturn(java.util.Optional.of(account));
-        when(accountRepository.save(any(Account.class))).thenReturn(account);
+        when(accountRepository.findCurrentById(account.getId())).thenReturn(java.util.Optional.of(account));
+        when(accountRepository.saveAndFlush(any(Account.class))).thenReturn(account);
         // 비밀번호가 빈 값일 때
         RegisterRequest updatedRequest = new RegisterRequest("testuser1", "", "삼사오", "newEmail@example.com");
 
@@ -198,8 +581,8 @@ public class AccountServiceTest {
 
     @Test
     public void updateAccount_ShouldNotEncryptWhenPasswordIsNull() {
-        when(accountRepository.findById(account.getId())).thenReturn(java.util.Optional.of(account));
-        when(accountRepository.save(any(Account.class))).thenReturn(account);
+        when(accountRepository.findCurrentById(account.getId())).thenReturn(java.util.Optional.of(account));
+        when(accountRepository.saveAndFlush(any(Account.class))).thenReturn(account);
         // 비밀번호가 null일 때
         RegisterRequest updatedRequest = new RegisterRequest("testuser1", null, "삼사오", "newEmail@example.com");
 
@@ -216,15 +599,17 @@ public class AccountServiceTest {
 
     @Test
     public void updateStatus_ShouldUpdateAccountStatus() {
-        when(accountRepository.findById(account.getId())).thenReturn(java.util.Optional.of(account));
+        when(accountRepository.findCurrentById(account.getId())).thenReturn(java.util.Optional.of(account));
         when(accountRepository.save(any(Account.class))).thenReturn(account);
 
         AccountResponse response = accountService.updateStatus(account.getId(), UserStatus.INACTIVE);
 
         assertEquals(UserStatus.INACTIVE, response.status());
+        verify(cache).evictIfPresent("testuser");
+        verify(auditRecorder).record(AuditAction.STATUS_CHANGE, 1L, "testuser", true);
 
         // 유저를 찾을 수 없을 때
-        when(accountRepository.findById(account.getId())).thenReturn(java.util.Optional.empty());
+        when(accountRepository.findCurrentById(account.getId())).thenReturn(java.util.Optional.empty());
         Exception exception = assertThrows(IllegalArgumentException.class, () -> {
             accountService.updateStatus(account.getId(), UserStatus.INACTIVE);
         });
@@ -234,15 +619,18 @@ public class AccountServiceTest {
 
     @Test
     public void deleteAccount_ShouldDeleteAccount() {
-        when(accountRepository.findById(account.getId())).thenReturn(java.util.Optional.of(account));
+        when(accountRepository.findCurrentById(account.getId())).thenReturn(java.util.Optional.of(account));
         doNothing().when(accountRepository).delete(account);
 
         accountService.deleteAccount(account.getId());
 
         verify(accountRepository, times(1)).delete(account);
+        verify(changeLog).record(AccountChangeType.DELETED, 1L, "testuser", null);
+        verify(cache).evictIfPresent("testuser");
+        verify(auditRecorder).record(AuditAction.DELETE, 1L, "testuser", true);
 
         // 유저를 찾을 수 없을 때
-        when(accountRepository.findById(account.getId())).thenReturn(java.util.Optional.empty());
+        when(accountRepository.findCurrentById(account.getId())).thenReturn(java.util.Optional.empty());
         Exception exception = assertThrows(IllegalArgumentException.class, () -> {
             accountService.deleteAccount(account.getId());
         });
@@ -252,7 +640,8 @@ public class AccountServiceTest {
 
     @Test
     public void authenticateLoginTest(){
-        when(accountRepository.findAccountByIds(account.getIds())).thenReturn(account);
+        when(accountRepository.findAuthenticationByIds(account.getIds())).thenReturn(Optional.of(
+                new AuthenticationResponse(account.getIds(), account.getPassword(), account.getName(), account.getEmail(), account.getId(), 0L)));
 
         AuthenticationResponse authenticationResponse = accountService.authenticateLogin(account.getIds());
 
@@ -260,6 +649,14 @@ public class AccountServiceTest {
         assertEquals(authenticationResponse.name(), account.getName());
         assertEquals(authenticationResponse.password(), account.getPassword());
         assertEquals(authenticationResponse.email(), account.getEmail());
+
+        // 없는 아이디일 때
+        when(accountRepository.findAuthenticationByIds("nonexistentuser")).thenReturn(Optional.empty());
+        Exception exception = assertThrows(IllegalArgumentException.class, () -> {
+            accountService.authenticateLogin("nonexistentuser");
+        });
+
+        assertEquals("찾을 수 없는 아이디입니다.", exception.getMessage());
     }
 
 }
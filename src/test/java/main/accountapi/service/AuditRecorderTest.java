@@ -0,0 +1,242 @@
+package main.accountapi.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import main.accountapi.config.AuditProperties;
+import main.accountapi.config.AuditProperties.Backpressure;
+import main.accountapi.model.AuditAction;
+import main.accountapi.model.dto.AuditEvent;
+import main.accountapi.model.entity.AuditLog;
+import main.accountapi.repository.AuditLogRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.TaskScheduler;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+public class AuditRecorderTest {
+
+    private AuditLogRepository auditLogRepository;
+    private TaskScheduler taskScheduler;
+    private SimpleMeterRegistry meterRegistry;
+
+    // insertAll 에 넘어온 목록 (recorder 가 저장 후 목록을 비우므로 복사해서 보관)
+    private List<List<AuditEvent>> written;
+
+    @BeforeEach
+    public void setUp() {
+        auditLogRepository = mock(AuditLogRepository.class);
+        taskScheduler = mock(TaskScheduler.class);
+        meterRegistry = new SimpleMeterRegistry();
+        written = new CopyOnWriteArrayList<>();
+        doAnswer(invocation -> {
+            written.add(List.copyOf(invocation.<List<AuditEvent>>getArgument(0)));
+            return null;
+        }).when(auditLogRepository).insertAll(anyList());
+    }
+
+    private AuditRecorder recorder(int capacity, int batchSize, Backpressure backpressure, Duration blockTimeout) {
+        return new AuditRecorder(auditLogRepository, taskScheduler,
+                new AuditProperties(capacity, batchSize, Duration.ofSeconds(1), backpressure, blockTimeout, 2), meterRegistry);
+    }
+
+    @Test
+    public void flush_ShouldWriteInBatchesInOrder() {
+        AuditRecorder recorder = recorder(16, 2, Backpressure.DROP, Duration.ZERO);
+        recorder.record(AuditAction.LOGIN, 1L, "user1", true);
+        recorder.record(AuditAction.LOGIN, null, "unknown", false);
+        recorder.record(AuditAction.DELETE, 2L, "user2", true);
+
+        recorder.flush();
+
+        assertEquals(2, written.size());
+        assertEquals(List.of("user1", "unknown"), written.get(0).stream().map(AuditEvent::ids).toList());
+        assertEquals(List.of("user2"), written.get(1).stream().map(AuditEvent::ids).toList());
+        assertNull(written.get(0).get(1).accountId());
+        assertEquals(3, meterRegistry.get("account.audit.written").counter().count());
+        assertEquals(3, meterRegistry.get("account.audit.lag").timer().count());
+        assertEquals(0, meterRegistry.get("account.audit.buffer").gauge().value());
+
+        // 버퍼가 비어 있으면 DB 에 가지 않음
+        recorder.flush();
+        verify(auditLogRepository, times(2)).insertAll(anyList());
+    }
+
+    @Test
+    public void record_ShouldScheduleFlushOnce_WhenBatchIsReady() {
+        AuditRecorder recorder = recorder(16, 2, Backpressure.DROP, Duration.ZERO);
+        recorder.record(AuditAction.LOGIN, 1L, "user1", true);
+        verify(taskScheduler, never()).schedule(any(Runnable.class), any(Instant.class));
+
+        recorder.record(AuditAction.LOGIN, 2L, "user2", true);
+        recorder.record(AuditAction.LOGIN, 3L, "user3", true);
+
+        verify(taskScheduler, times(1)).schedule(any(Runnable.class), any(Instant.class));
+        verifyNoInteractions(auditLogRepository); // 요청 스레드는 저장하지 않음
+    }
+
+    @Test
+    public void record_ShouldDrop_WhenBufferIsFull() {
+        AuditRecorder recorder = recorder(4, 100, Backpressure.DROP, Duration.ZERO);
+        for (int i = 0; i < 6; i++) {
+            recorder.record(AuditAction.LOGIN, (long) i, "user" + i, true);
+        }
+        recorder.flush();
+
+        assertEquals(4, written.get(0).size());
+        assertEquals(2, meterRegistry.get("account.audit.dropped").tag("reason", "full").counter().count());
+    }
+
+    @Test
+    public void record_ShouldSample_WhenBufferIsHalfFull() {
+        AuditRecorder recorder = recorder(8, 100, Backpressure.SAMPLE, Duration.ZERO);
+        for (int i = 0; i < 10; i++) {
+            recorder.record(AuditAction.LOGIN, (long) i, "user" + i, true);
+        }
+        recorder.flush();
+
+        // 4개까지는 모두, 그 뒤로는 2개 중 하나 (sampleRate=2)
+        assertEquals(List.of("user0", "user1", "user2", "user3", "user4", "user6", "user8"),
+                written.get(0).stream().map(AuditEvent::ids).toList());
+        assertEquals(3, meterRegistry.get("account.audit.dropped").tag("reason", "sampled").counter().count());
+        assertEquals(0, meterRegistry.get("account.audit.dropped").tag("reason", "full").counter().count());
+    }
+
+    @Test
+    public void record_ShouldWaitForRoom_WhenBlocking() throws Exception {
+        ExecutorService writer = Executors.newSingleThreadExecutor();
+        try {
+            AuditRecorder recorder = recorder(2, 100, Backpressure.BLOCK, Duration.ofSeconds(5));
+            // 저장 요청은 다른 스레드에서 실행
+            when(taskScheduler.schedule(any(Runnable.class), any(Instant.class))).thenAnswer(invocation -> {
+                writer.submit(invocation.<Runnable>getArgument(0));
+                return null;
+            });
+
+            for (int i = 0; i < 5; i++) {
+                recorder.record(AuditAction.LOGIN, (long) i, "user" + i, true);
+            }
+            recorder.close();
+
+            assertEquals(List.of("user0", "user1", "user2", "user3", "user4"),
+                    written.stream().flatMap(List::stream).map(AuditEvent::ids).toList());
+            assertEquals(0, meterRegistry.get("account.audit.dropped").tag("reason", "full").counter().count());
+        } finally {
+            writer.shutdownNow();
+        }
+    }
+
+    @Test
+    public void record_ShouldDropAfterBlockTimeout() {
+        AuditRecorder recorder = recorder(2, 100, Backpressure.BLOCK, Duration.ofMillis(20));
+        recorder.record(AuditAction.LOGIN, 1L, "user1", true);
+        recorder.record(AuditAction.LOGIN, 2L, "user2", true);
+
+        // 저장이 돌지 않으면 block-timeout 뒤에 버림
+        recorder.record(AuditAction.LOGIN, 3L, "user3", true);
+
+        assertEquals(1, meterRegistry.get("account.audit.dropped").tag("reason", "full").counter().count());
+    }
+
+    @Test
+    public void flush_ShouldRetryBatch_WhenInsertFails() {
+        AuditRecorder recorder = recorder(16, 10, Backpressure.DROP, Duration.ZERO);
+        recorder.record(AuditAction.REGISTER, 1L, "user1", true);
+        doThrow(new IllegalStateException("db down")).when(auditLogRepository).insertAll(anyList());
+
+        assertThrows(IllegalStateException.class, recorder::flush);
+        assertEquals(0, meterRegistry.get("account.audit.written").counter().count());
+
+        // 종료할 때 다시 시도해서 남은 기록 저장
+        doAnswer(invocation -> {
+            written.add(List.copyOf(invocation.<List<AuditEvent>>getArgument(0)));
+            return null;
+        }).when(auditLogRepository).insertAll(anyList());
+        recorder.record(AuditAction.DELETE, 1L, "user1", true);
+        recorder.close();
+
+        assertEquals(List.of(AuditAction.REGISTER, AuditAction.DELETE),
+                written.stream().flatMap(List::stream).map(AuditEvent::action).toList());
+    }
+
+    @Test
+    public void record_ShouldTruncateIds_WhenLongerThanColumn() {
+        AuditRecorder recorder = recorder(16, 10, Backpressure.DROP, Duration.ZERO);
+        recorder.record(AuditAction.LOGIN, null, "a".repeat(AuditLog.IDS_LENGTH + 100), false);
+
+        recorder.flush();
+
+        assertEquals("a".repeat(AuditLog.IDS_LENGTH), written.get(0).get(0).ids());
+    }
+
+    @Test
+    public void flush_ShouldDropRejectedRowOnly_AndKeepWriting() {
+        AuditRecorder recorder = recorder(16, 10, Backpressure.DROP, Duration.ZERO);
+        // 여러 건 중 "bad" 가 있으면 제약 조건 위반
+        doAnswer(invocation -> {
+            List<AuditEvent> events = invocation.getArgument(0);
+            if (events.stream().anyMatch(event -> "bad".equals(event.ids()))) {
+                throw new DataIntegrityViolationException("value too long");
+            }
+            written.add(List.copyOf(events));
+            return null;
+        }).when(auditLogRepository).insertAll(anyList());
+        recorder.record(AuditAction.LOGIN, 1L, "user1", true);
+        recorder.record(AuditAction.LOGIN, null, "bad", false);
+        recorder.record(AuditAction.LOGIN, 2L, "user2", true);
+
+        recorder.flush();
+
+        assertEquals(List.of("user1", "user2"), written.stream().flatMap(List::stream).map(AuditEvent::ids).toList());
+        assertEquals(2, meterRegistry.get("account.audit.written").counter().count());
+        assertEquals(1, meterRegistry.get("account.audit.dropped").tag("reason", "rejected").counter().count());
+
+        // 거부된 기록은 다시 시도하지 않아서 다음 기록이 막히지 않음
+        written.clear();
+        recorder.record(AuditAction.DELETE, 1L, "user1", true);
+        recorder.flush();
+
+        assertEquals(List.of(List.of("user1")), written.stream().map(events -> events.stream().map(AuditEvent::ids).toList()).toList());
+    }
+
+    @Test
+    public void record_ShouldNotLoseEvents_WithConcurrentRequests() throws Exception {
+        AuditRecorder recorder = recorder(1024, 50, Backpressure.BLOCK, Duration.ofSeconds(5));
+        ExecutorService requests = Executors.newFixedThreadPool(4);
+        ExecutorService writer = Executors.newSingleThreadExecutor();
+        try {
+            when(taskScheduler.schedule(any(Runnable.class), any(Instant.class))).thenAnswer(invocation -> {
+                writer.submit(invocation.<Runnable>getArgument(0));
+                return null;
+            });
+            CountDownLatch done = new CountDownLatch(4);
+            for (int t = 0; t < 4; t++) {
+                requests.submit(() -> {
+                    for (int i = 0; i < 2_000; i++) {
+                        recorder.record(AuditAction.LOGIN, (long) i, "user", true);
+                    }
+                    done.countDown();
+                });
+            }
+            assertTrue(done.await(10, TimeUnit.SECONDS));
+            writer.submit(recorder::close).get(10, TimeUnit.SECONDS);
+
+            assertEquals(8_000, written.stream().mapToInt(List::size).sum());
+            assertEquals(8_000, meterRegistry.get("account.audit.written").counter().count());
+        } finally {
+            requests.shutdownNow();
+            writer.shutdownNow();
+        }
+    }
+}
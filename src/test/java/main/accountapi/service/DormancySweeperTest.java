@@ -0,0 +1,193 @@
+package main.accountapi.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import main.accountapi.config.AccountChangeProperties;
+import main.accountapi.config.CacheConfig;
+import main.accountapi.config.DormancyProperties;
+import main.accountapi.model.AccountChangeType;
+import main.accountapi.model.UserStatus;
+import main.accountapi.model.dto.AccountChangeResponse;
+import main.accountapi.model.entity.Account;
+import main.accountapi.model.entity.SweepCheckpoint;
+import main.accountapi.repository.AccountChangeRepository;
+import main.accountapi.repository.AccountRepository;
+import main.accountapi.repository.SweepCheckpointRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.cache.Cache;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.data.domain.Limit;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+// 청크마다 실제로 커밋되는지 보기 위해 테스트 트랜잭션 없이 실행
+@DataJpaTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+public class DormancySweeperTest {
+
+    private static final Instant NOW = Instant.parse("2026-06-01T00:00:00Z");
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @Autowired
+    private SweepCheckpointRepository checkpointRepository;
+
+    @Autowired
+    private AccountChangeRepository changeRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private SimpleMeterRegistry meterRegistry;
+    private Cache authenticationCache;
+    private DormancySweeper sweeper;
+    private final List<Account> accounts = new ArrayList<>();
+
+    @BeforeEach
+    public void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        ConcurrentMapCacheManager cacheManager = new ConcurrentMapCacheManager(CacheConfig.ACCOUNTS_BY_IDS);
+        authenticationCache = cacheManager.getCache(CacheConfig.ACCOUNTS_BY_IDS);
+        // 30일 넘게 로그인하지 않으면 휴면, 2개씩 처리
+        sweeper = new DormancySweeper(accountRepository, checkpointRepository, new AccountChangeLog(changeRepository),
+                transactionManager, new DormancyProperties(Duration.ofDays(30), 2), new AccountChangeProperties(2, 10, Duration.ofSeconds(2), Duration.ofSeconds(1), Duration.ofMinutes(1), 10,
+                        Duration.ofHours(1), Duration.ofDays(7), 100), cacheManager, meterRegistry);
+
+        accounts.add(save("idle1", UserStatus.ACTIVE, NOW.minus(Duration.ofDays(100))));
+        accounts.add(save("recent", UserStatus.ACTIVE, NOW.minus(Duration.ofDays(1))));
+        accounts.add(save("never", UserStatus.ACTIVE, null));
+        accounts.add(save("inactive", UserStatus.INACTIVE, NOW.minus(Duration.ofDays(100))));
+        accounts.add(save("idle2", UserStatus.ACTIVE, NOW.minus(Duration.ofDays(31))));
+    }
+
+    @AfterEach
+    public void tearDown() {
+        accountRepository.deleteAll();
+        checkpointRepository.deleteAll();
+        changeRepository.deleteAll();
+    }
+
+    @Test
+    public void sweep_ShouldMarkOnlyIdleActiveAccounts() {
+        int marked = sweeper.sweep(NOW);
+
+        assertThat(marked).isEqualTo(2);
+        assertThat(statusOf("idle1")).isEqualTo(UserStatus.DORMANT);
+        assertThat(statusOf("idle2")).isEqualTo(UserStatus.DORMANT);
+        assertThat(statusOf("recent")).isEqualTo(UserStatus.ACTIVE);
+        assertThat(statusOf("never")).isEqualTo(UserStatus.ACTIVE);
+        assertThat(statusOf("inactive")).isEqualTo(UserStatus.INACTIVE);
+        assertThat(accountRepository.findAccountByIds("idle1").getVersion()).isEqualTo(1L); // 목록 ETag 가 바뀌도록
+
+        assertThat(checkpointRepository.count()).isZero(); // 끝나면 진행 위치 삭제
+        assertThat(changeRepository.findChangesAfter(0L, Limit.of(10)))
+                .extracting(AccountChangeResponse::ids, AccountChangeResponse::type)
+                .containsExactly(tuple("idle1", AccountChangeType.STATUS_CHANGED), tuple("idle2", AccountChangeType.STATUS_CHANGED));
+        assertThat(meterRegistry.get("account.dormancy.marked").counter().count()).isEqualTo(2);
+        assertThat(meterRegistry.get("account.dormancy.last-id").gauge().value()).isEqualTo(accounts.get(4).getId());
+    }
+
+    @Test
+    public void sweep_ShouldEvictCachedAuthenticationOfMarkedAccounts() {
+        authenticationCache.put("idle1", "cached");
+        authenticationCache.put("recent", "cached");
+
+        sweeper.sweep(NOW);
+
+        // 휴면이 된 계정만 제거 (version 이 올라서 ETag 가 바뀜)
+        assertThat(authenticationCache.get("idle1")).isNull();
+        assertThat(authenticationCache.get("recent")).isNotNull();
+    }
+
+    @Test
+    public void sweep_ShouldRecordOnlyMarkedAccounts_WhenLoginCommitsDuringSweep() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            // idle1 의 로그인 시각을 바꾸는 트랜잭션이 아직 커밋 전 (행 잠금을 잡고 있음)
+            CountDownLatch loggedIn = new CountDownLatch(1);
+            CountDownLatch commit = new CountDownLatch(1);
+            Future<?> login = executor.submit(() -> new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+                jdbcTemplate.update("update users set last_login_at = ? where id = ?",
+                        Timestamp.from(NOW), accounts.get(0).getId());
+                loggedIn.countDown();
+                try {
+                    assertThat(commit.await(5, TimeUnit.SECONDS)).isTrue();
+                } catch (InterruptedException e) {
+                    throw new IllegalStateException(e);
+                }
+            }));
+            assertThat(loggedIn.await(5, TimeUnit.SECONDS)).isTrue();
+
+            // 휴면 처리는 idle1 의 잠금을 기다리다 로그인이 커밋된 뒤의 값으로 판단
+            Future<Integer> sweep = executor.submit(() -> sweeper.sweep(NOW));
+            Thread.sleep(200);
+            commit.countDown();
+            login.get(5, TimeUnit.SECONDS);
+
+            assertThat(sweep.get(5, TimeUnit.SECONDS)).isEqualTo(1);
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(statusOf("idle1")).isEqualTo(UserStatus.ACTIVE);
+        assertThat(statusOf("idle2")).isEqualTo(UserStatus.DORMANT);
+        assertThat(changeRepository.findChangesAfter(0L, Limit.of(10)))
+                .extracting(AccountChangeResponse::ids)
+                .containsExactly("idle2");
+    }
+
+    @Test
+    public void sweep_ShouldResumeFromCheckpointWithSavedCutoff() {
+        // 이전 실행이 첫 청크(idle1, recent)까지 처리하고 멈춘 상태
+        Instant previousCutoff = NOW.minus(Duration.ofDays(60));
+        checkpointRepository.save(new SweepCheckpoint(DormancySweeper.JOB_NAME, accounts.get(1).getId(), previousCutoff,
+                NOW.minus(Duration.ofDays(30)), NOW.minus(Duration.ofDays(30))));
+
+        int marked = sweeper.sweep(NOW);
+
+        // 이미 지난 범위는 다시 보지 않고, 저장된 기준(60일)으로는 idle2(31일)도 휴면이 아님
+        assertThat(marked).isZero();
+        assertThat(statusOf("idle1")).isEqualTo(UserStatus.ACTIVE);
+        assertThat(statusOf("idle2")).isEqualTo(UserStatus.ACTIVE);
+        assertThat(checkpointRepository.count()).isZero();
+    }
+
+    private Account save(String ids, UserStatus status, Instant lastLoginAt) {
+        Account account = new Account();
+        account.setIds(ids);
+        account.setPassword("password123");
+        account.setName(ids);
+        account.setEmail(ids + "@example.com");
+        account.setStatus(status);
+        account.setLastLoginAt(lastLoginAt);
+        return accountRepository.save(account);
+    }
+
+    private UserStatus statusOf(String ids) {
+        return accountRepository.findAccountResponseByIds(ids).orElseThrow().status();
+    }
+}
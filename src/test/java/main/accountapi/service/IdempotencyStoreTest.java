@@ -0,0 +1,100 @@
+package main.accountapi.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import main.accountapi.config.IdempotencyProperties;
+import main.accountapi.exception.DuplicateAccountException;
+import main.accountapi.exception.IdempotencyKeyReusedException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class IdempotencyStoreTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private IdempotencyStore<String> store;
+    private AtomicInteger executions;
+
+    @BeforeEach
+    public void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        store = new IdempotencyStore<>("test", new IdempotencyProperties(Duration.ofMinutes(1), 100), meterRegistry);
+        executions = new AtomicInteger();
+    }
+
+    @Test
+    public void execute_ShouldReplayStoredResult() {
+        IdempotencyStore.Outcome<String> first = store.execute("key", "request", () -> "result" + executions.incrementAndGet());
+        IdempotencyStore.Outcome<String> retry = store.execute("key", "request", () -> "result" + executions.incrementAndGet());
+
+        assertEquals(new IdempotencyStore.Outcome<>("result1", false), first);
+        assertEquals(new IdempotencyStore.Outcome<>("result1", true), retry); // 다시 실행하지 않음
+        assertEquals(1, executions.get());
+        assertEquals(1, meterRegistry.get("account.idempotency.replayed").tag("store", "test").counter().count());
+    }
+
+    @Test
+    public void execute_ShouldRejectSameKeyWithDifferentRequest() {
+        store.execute("key", "request", () -> "result");
+
+        assertThrows(IdempotencyKeyReusedException.class, () -> store.execute("key", "other", () -> "other"));
+    }
+
+    @Test
+    public void execute_ShouldNotStoreFailure() {
+        assertThrows(DuplicateAccountException.class, () -> store.execute("key", "request", () -> {
+            executions.incrementAndGet();
+            throw new DuplicateAccountException(new IllegalStateException());
+        }));
+
+        // 실패한 키는 지워져서 재시도는 다시 실행
+        assertEquals("result", store.execute("key", "request", () -> "result").value());
+        assertEquals(0, meterRegistry.get("account.idempotency.replayed").counter().count());
+    }
+
+    @Test
+    public void execute_ShouldRunConcurrentDuplicatesOnce() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            Future<IdempotencyStore.Outcome<String>> first = executor.submit(() -> store.execute("key", "request", () -> {
+                started.countDown();
+                await(release);
+                return "result" + executions.incrementAndGet();
+            }));
+            started.await(5, TimeUnit.SECONDS);
+
+            // 처리 중에 들어온 같은 키는 먼저 온 요청의 결과를 기다림
+            List<Future<IdempotencyStore.Outcome<String>>> duplicates = List.of(
+                    executor.submit(() -> store.execute("key", "request", () -> "result" + executions.incrementAndGet())),
+                    executor.submit(() -> store.execute("key", "request", () -> "result" + executions.incrementAndGet())));
+            release.countDown();
+
+            assertEquals("result1", first.get(5, TimeUnit.SECONDS).value());
+            for (Future<IdempotencyStore.Outcome<String>> duplicate : duplicates) {
+                assertEquals(new IdempotencyStore.Outcome<>("result1", true), duplicate.get(5, TimeUnit.SECONDS));
+            }
+            assertEquals(1, executions.get());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package main.accountapi.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import main.accountapi.config.LastLoginProperties;
+import main.accountapi.repository.AccountRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.scheduling.TaskScheduler;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+public class LastLoginRecorderTest {
+
+    private static final Instant NOW = Instant.parse("2026-01-01T00:00:00Z");
+
+    private AccountRepository accountRepository;
+    private TaskScheduler taskScheduler;
+    private SimpleMeterRegistry meterRegistry;
+    private LastLoginRecorder recorder;
+
+    @BeforeEach
+    public void setUp() {
+        accountRepository = mock(AccountRepository.class);
+        taskScheduler = mock(TaskScheduler.class);
+        meterRegistry = new SimpleMeterRegistry();
+        // 3개가 모이면 바로 반영, 4개까지만 모음
+        recorder = new LastLoginRecorder(accountRepository, taskScheduler, new LastLoginProperties(Duration.ofSeconds(10), 3, 4), meterRegistry);
+    }
+
+    @Test
+    public void flush_ShouldWriteLatestLoginPerAccountOnce() {
+        recorder.record(1L, NOW);
+        recorder.record(1L, NOW.plusSeconds(5));
+        recorder.record(1L, NOW.plusSeconds(2)); // 늦게 도착한 이전 시각은 무시
+        recorder.record(2L, NOW);
+
+        recorder.flush();
+
+        verify(accountRepository).updateLastLoginAt(Map.of(1L, NOW.plusSeconds(5), 2L, NOW));
+        assertEquals(2, meterRegistry.get("account.last-login.flushed").counter().count());
+        assertEquals(0, meterRegistry.get("account.last-login.buffer").gauge().value());
+
+        // 버퍼가 비어 있으면 DB 에 가지 않음
+        recorder.flush();
+        verifyNoMoreInteractions(accountRepository);
+    }
+
+    @Test
+    public void record_ShouldScheduleFlushOnce_WhenBufferIsFull() {
+        recorder.record(1L, NOW);
+        recorder.record(2L, NOW);
+        verify(taskScheduler, never()).schedule(any(Runnable.class), any(Instant.class));
+
+        recorder.record(3L, NOW);
+        recorder.record(4L, NOW);
+
+        verify(taskScheduler, times(1)).schedule(any(Runnable.class), any(Instant.class));
+    }
+
+    @Test
+    public void flush_ShouldKeepBuffer_WhenUpdateFails() {
+        recorder.record(1L, NOW);
+        doThrow(new IllegalStateException("db down")).when(accountRepository).updateLastLoginAt(anyMap());
+
+        assertThrows(IllegalStateException.class, () -> recorder.flush());
+
+        // 다음 반영때 다시 시도
+        doNothing().when(accountRepository).updateLastLoginAt(anyMap());
+        recorder.close();
+        verify(accountRepository, times(2)).updateLastLoginAt(Map.of(1L, NOW));
+    }
+
+    @Test
+    public void record_ShouldDropNewAccounts_WhenBufferIsAtCapacity() {
+        doThrow(new IllegalStateException("db down")).when(accountRepository).updateLastLoginAt(anyMap());
+        for (long id = 1; id <= 6; id++) {
+            recorder.record(id, NOW);
+            assertThrows(IllegalStateException.class, () -> recorder.flush());
+        }
+        recorder.record(1L, NOW.plusSeconds(5)); // 이미 있는 계정은 시각만 바꿈
+
+        assertEquals(4, meterRegistry.get("account.last-login.buffer").gauge().value());
+        assertEquals(2, meterRegistry.get("account.last-login.dropped").counter().count());
+
+        doNothing().when(accountRepository).updateLastLoginAt(anyMap());
+        recorder.flush();
+        verify(accountRepository).updateLastLoginAt(Map.of(1L, NOW.plusSeconds(5), 2L, NOW, 3L, NOW, 4L, NOW));
+    }
+}
@@ -0,0 +1,92 @@
+package main.accountapi.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class RingBufferTest {
+
+    @Test
+    public void constructor_ShouldRoundCapacityUpToPowerOfTwo() {
+        assertEquals(8, new RingBuffer<String>(5).capacity());
+        assertEquals(8, new RingBuffer<String>(8).capacity());
+        assertThrows(IllegalArgumentException.class, () -> new RingBuffer<String>(1));
+    }
+
+    @Test
+    public void offer_ShouldRejectWhenFull_AndReuseDrainedSlots() {
+        RingBuffer<Integer> buffer = new RingBuffer<>(4);
+        for (int i = 0; i < 4; i++) {
+            assertTrue(buffer.offer(i));
+        }
+        assertFalse(buffer.offer(4));
+        assertEquals(4, buffer.size());
+
+        List<Integer> drained = new ArrayList<>();
+        assertEquals(3, buffer.drainTo(drained, 3));
+        assertEquals(List.of(0, 1, 2), drained);
+
+        // 꺼낸 칸은 한 바퀴 돌아서 다시 사용
+        assertTrue(buffer.offer(4));
+        assertTrue(buffer.offer(5));
+        assertTrue(buffer.offer(6));
+        assertFalse(buffer.offer(7));
+
+        drained.clear();
+        assertEquals(4, buffer.drainTo(drained, 10));
+        assertEquals(List.of(3, 4, 5, 6), drained);
+        assertEquals(0, buffer.drainTo(drained, 10));
+        assertEquals(0, buffer.size());
+    }
+
+    @Test
+    public void drainTo_ShouldReceiveEveryElementOnce_WithConcurrentProducers() throws Exception {
+        int producers = 4;
+        int perProducer = 20_000;
+        RingBuffer<Integer> buffer = new RingBuffer<>(64);
+        ExecutorService executor = Executors.newFixedThreadPool(producers);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int p = 0; p < producers; p++) {
+                int base = p * perProducer;
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < perProducer; i++) {
+                        while (!buffer.offer(base + i)) {
+                            Thread.yield(); // 꽉 차면 꺼내는 스레드에 양보 (CPU 가 적은 환경)
+                        }
+                    }
+                }));
+            }
+
+            // 꺼내는 쪽은 이 스레드 하나
+            Set<Integer> received = new HashSet<>();
+            List<Integer> batch = new ArrayList<>();
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+            while (received.size() < producers * perProducer && System.nanoTime() < deadline) {
+                batch.clear();
+                if (buffer.drainTo(batch, 64) == 0) {
+                    Thread.yield();
+                }
+                for (Integer element : batch) {
+                    assertTrue(received.add(element), "중복: " + element);
+                }
+            }
+            for (Future<?> future : futures) {
+                future.get(5, TimeUnit.SECONDS);
+            }
+            assertEquals(producers * perProducer, received.size());
+            assertEquals(0, buffer.size());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,148 @@
+package main.accountapi.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import main.accountapi.config.SingleFlightProperties;
+import main.accountapi.exception.SingleFlightTimeoutException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class SingleFlightTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private SingleFlight singleFlight;
+    private AtomicInteger executions;
+    private CountDownLatch started;
+    private CountDownLatch release;
+    private ExecutorService executor;
+
+    @BeforeEach
+    public void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        singleFlight = new SingleFlight(new SingleFlightProperties(Duration.ofSeconds(5)), meterRegistry);
+        executions = new AtomicInteger();
+        started = new CountDownLatch(1);
+        release = new CountDownLatch(1);
+        executor = Executors.newFixedThreadPool(4);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        release.countDown();
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void execute_ShouldShareOneLoadWithConcurrentCalls() throws Exception {
+        Future<String> leader = executor.submit(() -> singleFlight.execute("account", "testuser", this::blockingLoad));
+        started.await(5, TimeUnit.SECONDS);
+
+        // 조회 중에 들어온 같은 키는 먼저 온 요청의 결과를 기다림
+        List<Future<String>> followers = List.of(
+                executor.submit(() -> singleFlight.execute("account", "testuser", this::load)),
+                executor.submit(() -> singleFlight.execute("account", "testuser", this::load)));
+        awaitFollowers("account", 2);
+        release.countDown();
+
+        assertEquals("result1", leader.get(5, TimeUnit.SECONDS));
+        for (Future<String> follower : followers) {
+            assertEquals("result1", follower.get(5, TimeUnit.SECONDS));
+        }
+        assertEquals(1, executions.get());
+        assertEquals(1, calls("account", "leader"));
+    }
+
+    @Test
+    public void execute_ShouldNotKeepResultAfterCompletion() {
+        assertEquals("result1", singleFlight.execute("account", "testuser", this::load));
+        assertEquals("result2", singleFlight.execute("account", "testuser", this::load)); // 끝난 조회는 다시 실행
+
+        assertEquals(2, calls("account", "leader"));
+        assertEquals(0, calls("account", "follower"));
+    }
+
+    @Test
+    public void execute_ShouldNotShareBetweenFlights() throws Exception {
+        Future<String> leader = executor.submit(() -> singleFlight.execute("account", "testuser", this::blockingLoad));
+        started.await(5, TimeUnit.SECONDS);
+
+        // 키가 같아도 조회 종류가 다르면 따로 실행
+        assertEquals("result1", singleFlight.execute("credentials", "testuser", this::load));
+        release.countDown();
+        assertEquals("result2", leader.get(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void execute_ShouldPropagateFailureToFollowers() throws Exception {
+        Future<String> leader = executor.submit(() -> singleFlight.execute("account", "testuser", () -> {
+            blockingLoad();
+            throw new IllegalStateException("db down");
+        }));
+        started.await(5, TimeUnit.SECONDS);
+        Future<String> follower = executor.submit(() -> singleFlight.execute("account", "testuser", this::load));
+        awaitFollowers("account", 1);
+        release.countDown();
+
+        ExecutionException leaderFailure = assertThrows(ExecutionException.class, () -> leader.get(5, TimeUnit.SECONDS));
+        ExecutionException followerFailure = assertThrows(ExecutionException.class, () -> follower.get(5, TimeUnit.SECONDS));
+        assertInstanceOf(IllegalStateException.class, leaderFailure.getCause());
+        assertSame(leaderFailure.getCause(), followerFailure.getCause());
+
+        // 실패한 조회도 지워져서 다음 요청은 다시 실행
+        assertEquals("result2", singleFlight.execute("account", "testuser", this::load));
+    }
+
+    @Test
+    public void execute_ShouldTimeOutWaitingFollower() throws Exception {
+        singleFlight = new SingleFlight(new SingleFlightProperties(Duration.ofMillis(50)), meterRegistry);
+        Future<String> leader = executor.submit(() -> singleFlight.execute("account", "testuser", this::blockingLoad));
+        started.await(5, TimeUnit.SECONDS);
+
+        assertThrows(SingleFlightTimeoutException.class, () -> singleFlight.execute("account", "testuser", this::load));
+        assertEquals(1, meterRegistry.get("account.single-flight.timeouts").tag("flight", "account").counter().count());
+
+        // 기다리던 요청이 포기해도 먼저 온 조회는 끝까지 실행
+        release.countDown();
+        assertEquals("result1", leader.get(5, TimeUnit.SECONDS));
+        assertEquals(1, executions.get());
+    }
+
+    private String load() {
+        return "result" + executions.incrementAndGet();
+    }
+
+    private String blockingLoad() {
+        started.countDown();
+        try {
+            release.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return load();
+    }
+
+    private void awaitFollowers(String flight, int count) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (calls(flight, "follower") < count && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+        assertEquals(count, calls(flight, "follower"));
+    }
+
+    private double calls(String flight, String role) {
+        var counter = meterRegistry.find("account.single-flight.calls").tag("flight", flight).tag("role", role).counter();
+        return counter == null ? 0 : counter.count();
+    }
+}